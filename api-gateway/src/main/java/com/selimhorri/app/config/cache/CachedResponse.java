@@ -0,0 +1,32 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Successful GET response kept by the gateway, along with its strong ETag.
+ */
+@Getter
+@AllArgsConstructor
+public final class CachedResponse {
+	
+	private final HttpHeaders headers;
+	private final byte[] body;
+	private final String etag;
+	private final Duration ttl;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,68 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+	
+	/**
+	 * Bounded by the total body size; every entry expires after the TTL of its own route.
+	 */
+	@Bean
+	public Cache<ResponseCacheKey, CachedResponse> responseCacheBean(final ResponseCacheProperties responseCacheProperties) {
+		return Caffeine.newBuilder()
+				.maximumWeight(responseCacheProperties.getMaximumSize().toBytes())
+				.<ResponseCacheKey, CachedResponse>weigher((key, response) -> response.getBody().length 
+						+ key.getPathAndQuery().length())
+				.expireAfter(new Expiry<ResponseCacheKey, CachedResponse>() {
+					
+					@Override
+					public long expireAfterCreate(final ResponseCacheKey key, final CachedResponse response, final long currentTime) {
+						return response.getTtl().toNanos();
+					}
+					
+					@Override
+					public long expireAfterUpdate(final ResponseCacheKey key, final CachedResponse response, 
+							final long currentTime, final long currentDuration) {
+						return response.getTtl().toNanos();
+					}
+					
+					@Override
+					public long expireAfterRead(final ResponseCacheKey key, final CachedResponse response, 
+							final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+					
+				})
+				.recordStats()
+				.build();
+	}
+	
+	@Bean
+	public MeterBinder responseCacheMetricsBean(final Cache<ResponseCacheKey, CachedResponse> responseCacheBean) {
+		return registry -> CaffeineCacheMetrics.monitor(registry, responseCacheBean, "gatewayResponseCache");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
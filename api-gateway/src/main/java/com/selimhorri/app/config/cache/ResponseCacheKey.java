@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.cache;
+
+import lombok.Value;
+
+/**
+ * Negotiation headers are part of the key since backends may answer with a 
+ * different representation, e.g. gzip-encoded, depending on them.
+ */
+@Value
+public class ResponseCacheKey {
+	
+	String routeId;
+	String pathAndQuery;
+	String accept;
+	String acceptEncoding;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,51 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.response-cache")
+@Data
+public class ResponseCacheProperties {
+	
+	private boolean enabled = true;
+	
+	/**
+	 * Upper bound of all cached bodies together.
+	 */
+	private DataSize maximumSize = DataSize.ofMegabytes(32);
+	
+	/**
+	 * Larger responses are passed through without being cached.
+	 */
+	private DataSize maximumEntrySize = DataSize.ofKilobytes(512);
+	private List<CachedRoute> routes = new ArrayList<>();
+	
+	@Data
+	public static class CachedRoute {
+		
+		/**
+		 * Name used as the route tag of the cache metrics.
+		 */
+		private String id;
+		private List<String> paths = new ArrayList<>();
+		private Duration ttl = Duration.ofMinutes(1);
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
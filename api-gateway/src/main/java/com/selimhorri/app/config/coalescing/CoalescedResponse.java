@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.coalescing;
+
+import org.springframework.http.HttpHeaders;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Upstream response of the leading request, handed to every request that waited on it.
+ */
+@Getter
+@AllArgsConstructor
+public final class CoalescedResponse {
+	
+	private final int status;
+	private final HttpHeaders headers;
+	private final byte[] body;
+	
+}
+
+
+
+
+
+
+
+
+
+
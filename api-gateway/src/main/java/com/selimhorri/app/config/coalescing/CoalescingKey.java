@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.coalescing;
+
+import lombok.Value;
+
+@Value
+public class CoalescingKey {
+	
+	String routeId;
+	String pathAndQuery;
+	String accept;
+	String acceptEncoding;
+	
+	/**
+	 * Authorization header of the caller, null on routes shared across callers.
+	 */
+	String authorization;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.coalescing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.request-coalescing")
+@Data
+public class RequestCoalescingProperties {
+	
+	private boolean enabled = true;
+	
+	/**
+	 * How long a waiting request trusts the in-flight one before calling upstream itself.
+	 */
+	private Duration maxWait = Duration.ofSeconds(5);
+	
+	/**
+	 * Larger responses are not shared; waiting requests then call upstream themselves.
+	 */
+	private DataSize maximumBodySize = DataSize.ofMegabytes(1);
+	private List<CoalescedRoute> routes = new ArrayList<>();
+	
+	@Data
+	public static class CoalescedRoute {
+		
+		/**
+		 * Name used as the route tag of the coalescing metrics.
+		 */
+		private String id;
+		private List<String> paths = new ArrayList<>();
+		
+		/**
+		 * Whether responses are the same for every caller; otherwise only requests 
+		 * carrying the same Authorization header are coalesced.
+		 */
+		private boolean shareAcrossCallers = false;
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
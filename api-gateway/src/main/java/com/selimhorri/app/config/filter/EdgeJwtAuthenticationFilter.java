@@ -0,0 +1,95 @@
+package com.selimhorri.app.config.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.jwt.EdgeJwtProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rejects requests to protected paths that carry no access token, or one that fails 
+ * signature, expiry or type checks, before they are routed to proxy-client.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EdgeJwtAuthenticationFilter implements GlobalFilter, Ordered {
+	
+	/**
+	 * Exchange attribute holding the subject of the verified token, for later filters.
+	 */
+	public static final String SUBJECT_ATTRIBUTE = EdgeJwtAuthenticationFilter.class.getName() + ".subject";
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+	
+	private final EdgeJwtProperties edgeJwtProperties;
+	private final ReactiveJwtDecoder edgeJwtDecoder;
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		if (!this.requiresToken(exchange))
+			return chain.filter(exchange);
+		
+		final String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX))
+			return this.reject(exchange);
+		
+		// defer, malformed tokens are thrown by decode itself rather than signalled
+		return Mono.defer(() -> this.edgeJwtDecoder.decode(authorizationHeader.substring(BEARER_PREFIX.length())))
+				.map(jwt -> {
+					if (jwt.getSubject() != null)
+						exchange.getAttributes().put(SUBJECT_ATTRIBUTE, jwt.getSubject());
+					return Boolean.TRUE;
+				})
+				.onErrorResume(JwtException.class, e -> {
+					log.info("*** EdgeJwtAuthenticationFilter, rejected token: {} *", e.getMessage());
+					return Mono.just(Boolean.FALSE);
+				})
+				.flatMap(valid -> valid ? chain.filter(exchange) : this.reject(exchange));
+	}
+	
+	private boolean requiresToken(final ServerWebExchange exchange) {
+		final String path = exchange.getRequest().getPath().value();
+		return this.edgeJwtProperties.isEnabled() 
+				&& exchange.getRequest().getMethod() != HttpMethod.OPTIONS 
+				&& this.edgeJwtProperties.getProtectedPaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path)) 
+				&& this.edgeJwtProperties.getPublicPaths().stream().noneMatch(pattern -> PATH_MATCHER.match(pattern, path));
+	}
+	
+	private Mono<Void> reject(final ServerWebExchange exchange) {
+		exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+		exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+		return exchange.getResponse().setComplete();
+	}
+	
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,214 @@
+package com.selimhorri.app.config.filter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.coalescing.CoalescedResponse;
+import com.selimhorri.app.config.coalescing.CoalescingKey;
+import com.selimhorri.app.config.coalescing.RequestCoalescingProperties;
+import com.selimhorri.app.config.coalescing.RequestCoalescingProperties.CoalescedRoute;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Single-flight for identical concurrent GETs: the first request goes upstream, the 
+ * ones arriving while it is in flight wait and receive a copy of its response. 
+ * Runs after the response cache, so only cache misses are coalesced.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+	
+	public static final String METRIC_NAME = "gateway.request.coalescing.requests";
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+	private static final Set<String> UNSHARED_HEADERS = Set.of(
+			"connection", "keep-alive", "transfer-encoding", "set-cookie", "content-length");
+	
+	private final RequestCoalescingProperties requestCoalescingProperties;
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentMap<CoalescingKey, Sinks.One<CoalescedResponse>> inFlight = new ConcurrentHashMap<>();
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final ServerHttpRequest request = exchange.getRequest();
+		final CoalescedRoute route = this.routeOf(request);
+		if (route == null)
+			return chain.filter(exchange);
+		
+		final CoalescingKey key = keyOf(request, route);
+		final Sinks.One<CoalescedResponse> flight = Sinks.one();
+		final Sinks.One<CoalescedResponse> leadingFlight = this.inFlight.putIfAbsent(key, flight);
+		if (leadingFlight != null)
+			return this.follow(exchange, chain, route, leadingFlight);
+		
+		this.count(route, "leader");
+		return chain.filter(exchange.mutate()
+						.response(new FanOutResponseDecorator(exchange.getResponse(), key, flight))
+						.build())
+				.doFinally(signal -> {
+					// nothing was shared (error, cancel, streamed body), waiting requests go upstream themselves
+					this.inFlight.remove(key, flight);
+					flight.tryEmitEmpty();
+				});
+	}
+	
+	private CoalescedRoute routeOf(final ServerHttpRequest request) {
+		if (!this.requestCoalescingProperties.isEnabled() || request.getMethod() != HttpMethod.GET)
+			return null;
+		final String path = request.getPath().value();
+		return this.requestCoalescingProperties.getRoutes().stream()
+				.filter(route -> route.getPaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path)))
+				.findFirst()
+				.orElse(null);
+	}
+	
+	private static CoalescingKey keyOf(final ServerHttpRequest request, final CoalescedRoute route) {
+		final String rawQuery = request.getURI().getRawQuery();
+		final HttpHeaders headers = request.getHeaders();
+		return new CoalescingKey(route.getId(), 
+				(rawQuery == null) ? request.getURI().getRawPath() : request.getURI().getRawPath() + "?" + rawQuery, 
+				headers.getFirst(HttpHeaders.ACCEPT), 
+				headers.getFirst(HttpHeaders.ACCEPT_ENCODING), 
+				route.isShareAcrossCallers() ? null : headers.getFirst(HttpHeaders.AUTHORIZATION));
+	}
+	
+	private Mono<Void> follow(final ServerWebExchange exchange, final GatewayFilterChain chain, 
+			final CoalescedRoute route, final Sinks.One<CoalescedResponse> leadingFlight) {
+		return leadingFlight.asMono()
+				.timeout(this.requestCoalescingProperties.getMaxWait(), Mono.empty())
+				.flatMap(shared -> {
+					this.count(route, "collapsed");
+					return this.write(exchange.getResponse(), shared).thenReturn(Boolean.TRUE);
+				})
+				.switchIfEmpty(Mono.defer(() -> {
+					this.count(route, "fallback");
+					return chain.filter(exchange).thenReturn(Boolean.TRUE);
+				}))
+				.then();
+	}
+	
+	private Mono<Void> write(final ServerHttpResponse response, final CoalescedResponse shared) {
+		response.setRawStatusCode(shared.getStatus());
+		shared.getHeaders().forEach((name, values) -> {
+			if (!response.getHeaders().containsKey(name))
+				response.getHeaders().put(name, values);
+		});
+		response.getHeaders().setContentLength(shared.getBody().length);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.getBody())));
+	}
+	
+	private void count(final CoalescedRoute route, final String result) {
+		this.meterRegistry.counter(METRIC_NAME, "route", route.getId(), "result", result).increment();
+	}
+	
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	}
+	
+	/**
+	 * CORS headers are left out, the gateway sets them on every response itself.
+	 */
+	private static HttpHeaders sharedHeadersOf(final HttpHeaders headers) {
+		final HttpHeaders shared = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			final String lowerCaseName = name.toLowerCase();
+			if (!UNSHARED_HEADERS.contains(lowerCaseName) && !lowerCaseName.startsWith("access-control-"))
+				shared.put(name, List.copyOf(values));
+		});
+		return HttpHeaders.readOnlyHttpHeaders(shared);
+	}
+	
+	private final class FanOutResponseDecorator extends ServerHttpResponseDecorator {
+		
+		private final CoalescingKey key;
+		private final Sinks.One<CoalescedResponse> flight;
+		
+		private FanOutResponseDecorator(final ServerHttpResponse delegate, final CoalescingKey key, 
+				final Sinks.One<CoalescedResponse> flight) {
+			super(delegate);
+			this.key = key;
+			this.flight = flight;
+		}
+		
+		/**
+		 * Holds at most maximumBodySize of buffers; streamed or larger bodies are written 
+		 * through and the waiting requests are sent upstream right away.
+		 */
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			final long maximumBodySize = RequestCoalescingFilter.this.requestCoalescingProperties.getMaximumBodySize().toBytes();
+			if (ResponseCacheFilter.isStreaming(this.getHeaders().getContentType()) 
+					|| this.getHeaders().getContentLength() > maximumBodySize) {
+				this.release();
+				return super.writeWith(body);
+			}
+			final AtomicLong heldBytes = new AtomicLong();
+			return Flux.<DataBuffer>from(body)
+					.bufferUntil(buffer -> heldBytes.addAndGet(buffer.readableByteCount()) > maximumBodySize)
+					.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+					.switchOnFirst((first, buffers) -> {
+						if (first.hasValue() && heldBytes.get() > maximumBodySize) {
+							this.release();
+							return super.writeWith(buffers.flatMapIterable(Function.identity()));
+						}
+						final byte[] bytes = first.hasValue() ? ResponseCacheFilter.bytesOf(first.get()) : new byte[0];
+						this.share(bytes);
+						return super.writeWith(Mono.just(this.bufferFactory().wrap(bytes)));
+					})
+					.then();
+		}
+		
+		private void share(final byte[] body) {
+			// later requests start a new flight rather than reuse this response
+			RequestCoalescingFilter.this.inFlight.remove(this.key, this.flight);
+			if (this.getRawStatusCode() != null)
+				this.flight.tryEmitValue(new CoalescedResponse(this.getRawStatusCode(), 
+						sharedHeadersOf(this.getHeaders()), body));
+		}
+		
+		private void release() {
+			RequestCoalescingFilter.this.inFlight.remove(this.key, this.flight);
+			this.flight.tryEmitEmpty();
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
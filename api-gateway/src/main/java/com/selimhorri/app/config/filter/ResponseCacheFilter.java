@@ -0,0 +1,278 @@
+package com.selimhorri.app.config.filter;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.CachedResponse;
+import com.selimhorri.app.config.cache.ResponseCacheKey;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+import com.selimhorri.app.config.cache.ResponseCacheProperties.CachedRoute;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves GET requests of the configured catalog routes from memory and answers matching 
+ * If-None-Match headers with 304; writes on a route evict every entry of that route. 
+ * Ordered ahead of request coalescing and of the response write, so that hits skip 
+ * both and misses can be captured.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+	
+	public static final String CACHE_HEADER = "X-Cache";
+	public static final String METRIC_NAME = "gateway.response.cache.requests";
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+	private static final Set<HttpMethod> WRITE_METHODS = Set.of(
+			HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+	public static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(
+			MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+	private static final Set<String> UNCACHED_HEADERS = Set.of(
+			"connection", "keep-alive", "transfer-encoding", "set-cookie", "date", CACHE_HEADER.toLowerCase());
+	
+	private final ResponseCacheProperties responseCacheProperties;
+	private final Cache<ResponseCacheKey, CachedResponse> responseCacheBean;
+	private final MeterRegistry meterRegistry;
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final ServerHttpRequest request = exchange.getRequest();
+		final CachedRoute route = this.routeOf(request.getPath().value());
+		if (route == null)
+			return chain.filter(exchange);
+		
+		if (WRITE_METHODS.contains(request.getMethod()))
+			return chain.filter(exchange)
+					.then(Mono.fromRunnable(() -> this.evictIfWritten(exchange, route)));
+		if (request.getMethod() != HttpMethod.GET)
+			return chain.filter(exchange);
+		
+		final ResponseCacheKey key = keyOf(request, route);
+		final CachedResponse cached = this.responseCacheBean.getIfPresent(key);
+		if (cached != null)
+			return this.replay(exchange, route, cached);
+		
+		this.count(route, "miss");
+		return chain.filter(exchange.mutate()
+				.response(new CachingResponseDecorator(exchange, key, route))
+				.build());
+	}
+	
+	private CachedRoute routeOf(final String path) {
+		if (!this.responseCacheProperties.isEnabled())
+			return null;
+		return this.responseCacheProperties.getRoutes().stream()
+				.filter(route -> route.getPaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path)))
+				.findFirst()
+				.orElse(null);
+	}
+	
+	private static ResponseCacheKey keyOf(final ServerHttpRequest request, final CachedRoute route) {
+		final String rawQuery = request.getURI().getRawQuery();
+		return new ResponseCacheKey(route.getId(), 
+				(rawQuery == null) ? request.getURI().getRawPath() : request.getURI().getRawPath() + "?" + rawQuery, 
+				request.getHeaders().getFirst(HttpHeaders.ACCEPT), 
+				request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+	}
+	
+	private Mono<Void> replay(final ServerWebExchange exchange, final CachedRoute route, final CachedResponse cached) {
+		final ServerHttpResponse response = exchange.getResponse();
+		if (notModified(exchange.getRequest(), cached.getEtag())) {
+			this.count(route, "not_modified");
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			response.getHeaders().setETag(cached.getEtag());
+			return response.setComplete();
+		}
+		
+		this.count(route, "hit");
+		response.setStatusCode(HttpStatus.OK);
+		cached.getHeaders().forEach((name, values) -> {
+			if (!response.getHeaders().containsKey(name))
+				response.getHeaders().put(name, values);
+		});
+		response.getHeaders().setETag(cached.getEtag());
+		response.getHeaders().setContentLength(cached.getBody().length);
+		response.getHeaders().set(CACHE_HEADER, "HIT");
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+	}
+	
+	private void evictIfWritten(final ServerWebExchange exchange, final CachedRoute route) {
+		final HttpStatus status = exchange.getResponse().getStatusCode();
+		if (status != null && status.is2xxSuccessful()) {
+			log.info("*** ResponseCacheFilter, evicting route {} after {} *", route.getId(), exchange.getRequest().getMethod());
+			this.responseCacheBean.asMap().keySet().removeIf(key -> key.getRouteId().equals(route.getId()));
+		}
+	}
+	
+	private void count(final CachedRoute route, final String result) {
+		this.meterRegistry.counter(METRIC_NAME, "route", route.getId(), "result", result).increment();
+	}
+	
+	/**
+	 * If-None-Match uses the weak comparison, so a W/ prefix sent back by a client still matches.
+	 */
+	private static boolean notModified(final ServerHttpRequest request, final String etag) {
+		final List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+		return ifNoneMatch.stream()
+				.map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+				.anyMatch(tag -> tag.equals(etag) || tag.equals("*"));
+	}
+	
+	private static String etagOf(final byte[] body) {
+		try {
+			return "\"" + Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(MessageDigest.getInstance("SHA-256").digest(body)) + "\"";
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+	}
+	
+	private final class CachingResponseDecorator extends ServerHttpResponseDecorator {
+		
+		private final ServerHttpRequest request;
+		private final ResponseCacheKey key;
+		private final CachedRoute route;
+		
+		private CachingResponseDecorator(final ServerWebExchange exchange, final ResponseCacheKey key, final CachedRoute route) {
+			super(exchange.getResponse());
+			this.request = exchange.getRequest();
+			this.key = key;
+			this.route = route;
+		}
+		
+		/**
+		 * Holds at most one entry's worth of buffers; a body that turns out larger is 
+		 * written through from there on, held buffers first, and not cached.
+		 */
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			if (!this.isCacheable())
+				return super.writeWith(body);
+			final long maximumEntrySize = ResponseCacheFilter.this.responseCacheProperties.getMaximumEntrySize().toBytes();
+			final AtomicLong heldBytes = new AtomicLong();
+			return Flux.<DataBuffer>from(body)
+					.bufferUntil(buffer -> heldBytes.addAndGet(buffer.readableByteCount()) > maximumEntrySize)
+					.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+					.switchOnFirst((first, buffers) -> {
+						if (first.hasValue() && heldBytes.get() > maximumEntrySize)
+							return super.writeWith(buffers.flatMapIterable(Function.identity()));
+						return this.store(first.hasValue() ? bytesOf(first.get()) : new byte[0]);
+					})
+					.then();
+		}
+		
+		private Mono<Void> store(final byte[] body) {
+			final String etag = etagOf(body);
+			final HttpHeaders headers = this.getHeaders();
+			headers.setETag(etag);
+			ResponseCacheFilter.this.responseCacheBean.put(this.key, 
+					new CachedResponse(storedHeadersOf(headers), body, etag, this.route.getTtl()));
+			headers.set(CACHE_HEADER, "MISS");
+			
+			if (notModified(this.request, etag)) {
+				this.setStatusCode(HttpStatus.NOT_MODIFIED);
+				headers.remove(HttpHeaders.CONTENT_LENGTH);
+				return this.setComplete();
+			}
+			return super.writeWith(Mono.just(this.bufferFactory().wrap(body)));
+		}
+		
+		/**
+		 * Only complete 200 responses that the backend allows to be shared, that are not 
+		 * streamed, and whose announced length, when there is one, fits in a single entry.
+		 */
+		private boolean isCacheable() {
+			final HttpHeaders headers = this.getHeaders();
+			final String cacheControl = headers.getCacheControl();
+			return this.getStatusCode() == HttpStatus.OK 
+					&& (cacheControl == null 
+							|| !(cacheControl.contains(CacheControl.noStore().getHeaderValue()) 
+									|| cacheControl.contains("private"))) 
+					&& !isStreaming(headers.getContentType()) 
+					&& headers.getContentLength() <= ResponseCacheFilter.this.responseCacheProperties.getMaximumEntrySize().toBytes();
+		}
+		
+	}
+	
+	public static boolean isStreaming(final MediaType contentType) {
+		return contentType != null && STREAMING_MEDIA_TYPES.stream().anyMatch(contentType::isCompatibleWith);
+	}
+	
+	/**
+	 * Copies and releases the buffers.
+	 */
+	static byte[] bytesOf(final List<DataBuffer> buffers) {
+		final byte[] bytes = new byte[buffers.stream().mapToInt(DataBuffer::readableByteCount).sum()];
+		int offset = 0;
+		for (final DataBuffer buffer : buffers) {
+			final int length = buffer.readableByteCount();
+			buffer.read(bytes, offset, length);
+			offset += length;
+			DataBufferUtils.release(buffer);
+		}
+		return bytes;
+	}
+	
+	/**
+	 * CORS headers are left out, the gateway adds them again for every request.
+	 */
+	private static HttpHeaders storedHeadersOf(final HttpHeaders headers) {
+		final HttpHeaders stored = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			final String lowerCaseName = name.toLowerCase();
+			if (!UNCACHED_HEADERS.contains(lowerCaseName) && !lowerCaseName.startsWith("access-control-"))
+				stored.put(name, List.copyOf(values));
+		});
+		return HttpHeaders.readOnlyHttpHeaders(stored);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
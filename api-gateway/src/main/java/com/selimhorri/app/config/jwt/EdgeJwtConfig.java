@@ -0,0 +1,54 @@
+package com.selimhorri.app.config.jwt;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@EnableConfigurationProperties(EdgeJwtProperties.class)
+public class EdgeJwtConfig {
+	
+	public static final String CLAIM_TOKEN_TYPE = "token_type";
+	public static final String ACCESS_TOKEN_TYPE = "access";
+	
+	/**
+	 * RS256 decoder backed by the proxy-client JWKS, resolved through service discovery; 
+	 * the key set is cached and re-fetched when a token carries an unknown kid.
+	 */
+	@Bean
+	public ReactiveJwtDecoder edgeJwtDecoderBean(final EdgeJwtProperties edgeJwtProperties, 
+			final ReactorLoadBalancerExchangeFilterFunction loadBalancerExchangeFilterFunction) {
+		
+		final NimbusReactiveJwtDecoder jwtDecoder = NimbusReactiveJwtDecoder
+				.withJwkSetUri(edgeJwtProperties.getJwkSetUri())
+				.webClient(WebClient.builder()
+						.filter(loadBalancerExchangeFilterFunction)
+						.build())
+				.build();
+		jwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+				JwtValidators.createDefault(), 
+				new JwtClaimValidator<String>(CLAIM_TOKEN_TYPE, ACCESS_TOKEN_TYPE::equals)));
+		
+		return jwtDecoder;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
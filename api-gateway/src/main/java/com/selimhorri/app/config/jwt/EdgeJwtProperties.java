@@ -0,0 +1,37 @@
+package com.selimhorri.app.config.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.edge-jwt")
+@Data
+public class EdgeJwtProperties {
+	
+	private boolean enabled = true;
+	private String jwkSetUri = "http://PROXY-CLIENT/app/.well-known/jwks.json";
+	
+	/**
+	 * Paths that need a valid access token before being routed.
+	 */
+	private List<String> protectedPaths = new ArrayList<>(List.of("/app/api/**"));
+	
+	/**
+	 * Exceptions to protectedPaths, mirroring the permitAll rules of proxy-client.
+	 */
+	private List<String> publicPaths = new ArrayList<>();
+	
+}
+
+
+
+
+
+
+
+
+
+
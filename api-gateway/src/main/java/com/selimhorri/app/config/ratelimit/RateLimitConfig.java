@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.ratelimit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Being the only RateLimiter and KeyResolver beans, these become the defaults of 
+ * every RequestRateLimiter filter declared on a route.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+	
+	@Bean
+	public TokenBucketRateLimiter tokenBucketRateLimiterBean(final ConfigurationService configurationService, 
+			final RateLimitProperties rateLimitProperties) {
+		return new TokenBucketRateLimiter(configurationService, rateLimitProperties);
+	}
+	
+	@Bean
+	public RateLimitKeyResolver rateLimitKeyResolverBean(final RateLimitProperties rateLimitProperties) {
+		return new RateLimitKeyResolver(rateLimitProperties);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,50 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.filter.EdgeJwtAuthenticationFilter;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Buckets requests by the subject of a token verified at the edge, else by a known API key, 
+ * else by the peer address; the kind is prefixed so the key spaces cannot collide.
+ */
+@RequiredArgsConstructor
+public class RateLimitKeyResolver implements KeyResolver {
+	
+	private final RateLimitProperties rateLimitProperties;
+	
+	@Override
+	public Mono<String> resolve(final ServerWebExchange exchange) {
+		
+		final String subject = exchange.getAttribute(EdgeJwtAuthenticationFilter.SUBJECT_ATTRIBUTE);
+		if (subject != null)
+			return Mono.just("principal:" + subject);
+		
+		final String apiKey = exchange.getRequest().getHeaders().getFirst(this.rateLimitProperties.getApiKeyHeader());
+		// an unknown key would otherwise buy a fresh bucket per request
+		if (apiKey != null && !apiKey.isBlank() && this.rateLimitProperties.getApiKeys().contains(apiKey.trim()))
+			return Mono.just("api-key:" + apiKey.trim());
+		
+		final InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+		return Mono.just((remoteAddress == null || remoteAddress.getAddress() == null) 
+				? "ip:unknown" 
+				: "ip:" + remoteAddress.getAddress().getHostAddress());
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
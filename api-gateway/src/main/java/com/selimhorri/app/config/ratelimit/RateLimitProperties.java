@@ -0,0 +1,44 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Data
+public class RateLimitProperties {
+	
+	/**
+	 * Limits applied to routes whose RequestRateLimiter filter declares none.
+	 */
+	private int defaultReplenishRate = 10;
+	private int defaultBurstCapacity = 20;
+	
+	/**
+	 * Buckets untouched for this long are dropped; a returning client starts full again.
+	 */
+	private Duration bucketIdleTimeout = Duration.ofMinutes(10);
+	private long maximumBuckets = 100_000;
+	private String apiKeyHeader = "X-API-Key";
+	
+	/**
+	 * Keys issued to clients; any other value in the API key header is ignored 
+	 * and the request is bucketed by its peer address.
+	 */
+	private Set<String> apiKeys = new HashSet<>();
+	
+}
+
+
+
+
+
+
+
+
+
+
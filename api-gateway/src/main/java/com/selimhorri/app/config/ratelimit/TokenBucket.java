@@ -0,0 +1,68 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Lock-free token bucket: the state is replaced as a whole by compare-and-set and 
+ * refilled lazily from the time elapsed since its last update.
+ */
+final class TokenBucket {
+	
+	private final double capacity;
+	private final double tokensPerNano;
+	private final AtomicReference<State> state;
+	
+	TokenBucket(final int capacity, final int replenishRate, final long nowNanos) {
+		this.capacity = capacity;
+		this.tokensPerNano = replenishRate / 1_000_000_000d;
+		this.state = new AtomicReference<>(new State(capacity, nowNanos));
+	}
+	
+	Probe tryConsume(final int tokens, final long nowNanos) {
+		while (true) {
+			final State current = this.state.get();
+			final long elapsedNanos = Math.max(0L, nowNanos - current.updatedAtNanos);
+			final double available = Math.min(this.capacity, current.tokens + elapsedNanos * this.tokensPerNano);
+			
+			// denials leave the state alone, the refill is accounted for by the next successful take
+			if (available < tokens)
+				return new Probe(false, (long) available, (long) Math.ceil((tokens - available) / this.tokensPerNano));
+			
+			final State next = new State(available - tokens, Math.max(nowNanos, current.updatedAtNanos));
+			if (this.state.compareAndSet(current, next))
+				return new Probe(true, (long) next.tokens, 0L);
+		}
+	}
+	
+	@AllArgsConstructor
+	private static final class State {
+		
+		private final double tokens;
+		private final long updatedAtNanos;
+		
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	static final class Probe {
+		
+		private final boolean allowed;
+		private final long remainingTokens;
+		private final long nanosToWait;
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,102 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.validation.annotation.Validated;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.Data;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory alternative to RedisRateLimiter, configured per route through the 
+ * RequestRateLimiter filter arguments prefixed with token-bucket-rate-limiter. 
+ * Limits are enforced per gateway instance.
+ */
+public class TokenBucketRateLimiter extends AbstractRateLimiter<TokenBucketRateLimiter.Config> {
+	
+	public static final String CONFIGURATION_PROPERTY_NAME = "token-bucket-rate-limiter";
+	public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+	public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+	public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+	public static final String RETRY_AFTER_HEADER = "Retry-After";
+	
+	private final Config defaultConfig;
+	private final Cache<String, TokenBucket> buckets;
+	
+	public TokenBucketRateLimiter(final ConfigurationService configurationService, 
+			final RateLimitProperties rateLimitProperties) {
+		super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+		this.defaultConfig = new Config();
+		this.defaultConfig.setReplenishRate(rateLimitProperties.getDefaultReplenishRate());
+		this.defaultConfig.setBurstCapacity(rateLimitProperties.getDefaultBurstCapacity());
+		this.buckets = Caffeine.newBuilder()
+				.expireAfterAccess(rateLimitProperties.getBucketIdleTimeout())
+				.maximumSize(rateLimitProperties.getMaximumBuckets())
+				.build();
+	}
+	
+	@Override
+	public Mono<Response> isAllowed(final String routeId, final String id) {
+		
+		final Config config = this.getConfig().getOrDefault(routeId, this.defaultConfig);
+		final long nowNanos = System.nanoTime();
+		final TokenBucket.Probe probe = this.buckets
+				.get(routeId + "|" + id, key -> new TokenBucket(config.getBurstCapacity(), config.getReplenishRate(), nowNanos))
+				.tryConsume(config.getRequestedTokens(), nowNanos);
+		
+		final Map<String, String> headers = new HashMap<>();
+		headers.put(REMAINING_HEADER, String.valueOf(probe.getRemainingTokens()));
+		headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+		headers.put(BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+		headers.put(REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens()));
+		if (!probe.isAllowed())
+			headers.put(RETRY_AFTER_HEADER, String.valueOf(retryAfterSeconds(probe.getNanosToWait())));
+		
+		return Mono.just(new Response(probe.isAllowed(), headers));
+	}
+	
+	/**
+	 * Whole seconds, rounded up, and never 0 since a denied client must wait.
+	 */
+	static long retryAfterSeconds(final long nanosToWait) {
+		return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(nanosToWait + TimeUnit.SECONDS.toNanos(1) - 1));
+	}
+	
+	@Validated
+	@Data
+	public static class Config {
+		
+		@Min(1)
+		private int replenishRate;
+		
+		@Min(1)
+		private int burstCapacity = 1;
+		
+		@Min(1)
+		private int requestedTokens = 1;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,133 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+
+import com.selimhorri.app.config.coalescing.RequestCoalescingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pruebas unitarias para RequestCoalescingFilter
+ * Valida que las respuestas acotadas se comparten y que las grandes o en streaming no se retienen en memoria
+ */
+class RequestCoalescingFilterTest {
+
+    private static final DefaultDataBufferFactory BUFFER_FACTORY = new DefaultDataBufferFactory();
+
+    private RequestCoalescingFilter requestCoalescingFilter;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        RequestCoalescingProperties.CoalescedRoute route = new RequestCoalescingProperties.CoalescedRoute();
+        route.setId("products");
+        route.setPaths(List.of("/app/api/products/**"));
+        RequestCoalescingProperties properties = new RequestCoalescingProperties();
+        properties.setMaximumBodySize(DataSize.ofBytes(16));
+        properties.setMaxWait(Duration.ofSeconds(5));
+        properties.setRoutes(List.of(route));
+        requestCoalescingFilter = new RequestCoalescingFilter(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Prueba 1: Verificar que una peticion concurrente recibe la respuesta chunked del lider sin ir upstream
+     */
+    @Test
+    void filter_ShouldShareSmallChunkedResponse() {
+        // Given
+        MockServerWebExchange leader = exchangeOf("/app/api/products");
+        MockServerWebExchange follower = exchangeOf("/app/api/products");
+        Mono<Void> leading = requestCoalescingFilter.filter(leader,
+                chainWriting(MediaType.APPLICATION_JSON, "[1,", "2]"));
+        Mono<Void> following = requestCoalescingFilter.filter(follower,
+                chainWriting(MediaType.APPLICATION_JSON, "[9]"));
+
+        // When
+        Mono.when(leading, following).block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals("[1,2]", leader.getResponse().getBodyAsString().block());
+        assertEquals("[1,2]", follower.getResponse().getBodyAsString().block());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    /**
+     * Prueba 2: Verificar que una respuesta mayor que el limite se escribe completa y la espera va upstream
+     */
+    @Test
+    void filter_ShouldPassThroughOversizedChunkedResponse() {
+        // Given
+        MockServerWebExchange leader = exchangeOf("/app/api/products");
+        MockServerWebExchange follower = exchangeOf("/app/api/products");
+        Mono<Void> leading = requestCoalescingFilter.filter(leader, chainWriting(MediaType.APPLICATION_JSON,
+                "[1111111,", "2222222,", "3333333,", "4444444]"));
+        Mono<Void> following = requestCoalescingFilter.filter(follower,
+                chainWriting(MediaType.APPLICATION_JSON, "[9]"));
+
+        // When
+        Mono.when(leading, following).block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals("[1111111,2222222,3333333,4444444]", leader.getResponse().getBodyAsString().block());
+        assertEquals("[9]", follower.getResponse().getBodyAsString().block());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    /**
+     * Prueba 3: Verificar que una respuesta NDJSON no se comparte
+     */
+    @Test
+    void filter_ShouldNotShareStreamingResponse() {
+        // Given
+        MockServerWebExchange leader = exchangeOf("/app/api/products/stream");
+        MockServerWebExchange follower = exchangeOf("/app/api/products/stream");
+        Mono<Void> leading = requestCoalescingFilter.filter(leader,
+                chainWriting(MediaType.APPLICATION_NDJSON, "{}\n", "{}\n"));
+        Mono<Void> following = requestCoalescingFilter.filter(follower,
+                chainWriting(MediaType.APPLICATION_NDJSON, "{}\n"));
+
+        // When
+        Mono.when(leading, following).block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals("{}\n{}\n", leader.getResponse().getBodyAsString().block());
+        assertEquals("{}\n", follower.getResponse().getBodyAsString().block());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private static MockServerWebExchange exchangeOf(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
+    }
+
+    /**
+     * Both requests are filtered before either is subscribed, so the second one always finds the first in flight.
+     */
+    private GatewayFilterChain chainWriting(MediaType contentType, String... chunks) {
+        return exchange -> Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(contentType);
+            return exchange.getResponse().writeWith(Flux.fromArray(chunks)
+                    .map(chunk -> (DataBuffer) BUFFER_FACTORY.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        });
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.CachedResponse;
+import com.selimhorri.app.config.cache.ResponseCacheConfig;
+import com.selimhorri.app.config.cache.ResponseCacheKey;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+
+/**
+ * Pruebas unitarias para ResponseCacheFilter
+ * Valida que solo se guardan respuestas acotadas y que los cuerpos grandes o en streaming pasan completos sin cachearse
+ */
+class ResponseCacheFilterTest {
+
+    private static final DefaultDataBufferFactory BUFFER_FACTORY = new DefaultDataBufferFactory();
+
+    private Cache<ResponseCacheKey, CachedResponse> responseCache;
+    private ResponseCacheFilter responseCacheFilter;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties.CachedRoute route = new ResponseCacheProperties.CachedRoute();
+        route.setId("products");
+        route.setPaths(List.of("/app/api/products/**"));
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setMaximumEntrySize(DataSize.ofBytes(16));
+        properties.setRoutes(List.of(route));
+        responseCache = new ResponseCacheConfig().responseCacheBean(properties);
+        responseCacheFilter = new ResponseCacheFilter(properties, responseCache, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Prueba 1: Verificar que una respuesta chunked que cabe en una entrada se guarda
+     */
+    @Test
+    void filter_ShouldCacheSmallChunkedResponse() {
+        // Given
+        MockServerWebExchange exchange = exchangeOf("/app/api/products");
+
+        // When
+        responseCacheFilter.filter(exchange, chainWriting(MediaType.APPLICATION_JSON, "[1,", "2]")).block();
+
+        // Then
+        assertEquals("[1,2]", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, responseCache.estimatedSize());
+    }
+
+    /**
+     * Prueba 2: Verificar que una respuesta chunked mayor que una entrada se escribe completa y no se guarda
+     */
+    @Test
+    void filter_ShouldPassThroughOversizedChunkedResponse() {
+        // Given
+        MockServerWebExchange exchange = exchangeOf("/app/api/products");
+
+        // When
+        responseCacheFilter.filter(exchange, chainWriting(MediaType.APPLICATION_JSON,
+                "[1111111,", "2222222,", "3333333,", "4444444]")).block();
+
+        // Then
+        assertEquals("[1111111,2222222,3333333,4444444]", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, responseCache.estimatedSize());
+    }
+
+    /**
+     * Prueba 3: Verificar que una respuesta NDJSON nunca se guarda
+     */
+    @Test
+    void filter_ShouldNotCacheStreamingResponse() {
+        // Given
+        MockServerWebExchange exchange = exchangeOf("/app/api/products/stream");
+
+        // When
+        responseCacheFilter.filter(exchange, chainWriting(MediaType.APPLICATION_NDJSON, "{}\n", "{}\n")).block();
+
+        // Then
+        assertEquals("{}\n{}\n", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, responseCache.estimatedSize());
+    }
+
+    private static MockServerWebExchange exchangeOf(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
+    }
+
+    private static GatewayFilterChain chainWriting(MediaType contentType, String... chunks) {
+        return exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(contentType);
+            return exchange.getResponse().writeWith(Flux.fromArray(chunks)
+                    .map(chunk -> (DataBuffer) BUFFER_FACTORY.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.selimhorri.app.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+/**
+ * Pruebas unitarias para RateLimitKeyResolver
+ * Valida que solo las API keys conocidas tienen su propio bucket y que las demas se agrupan por IP
+ */
+class RateLimitKeyResolverTest {
+
+    private static final InetSocketAddress CLIENT_ADDRESS = new InetSocketAddress("10.0.0.1", 52000);
+
+    private RateLimitKeyResolver rateLimitKeyResolver;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setApiKeys(Set.of("partner-key"));
+        rateLimitKeyResolver = new RateLimitKeyResolver(properties);
+    }
+
+    /**
+     * Prueba 1: Verificar que una API key conocida define el bucket
+     */
+    @Test
+    void resolve_ShouldKeyByKnownApiKey() {
+        // Given
+        MockServerWebExchange exchange = exchangeWithApiKey("partner-key");
+
+        // When
+        String key = rateLimitKeyResolver.resolve(exchange).block();
+
+        // Then
+        assertEquals("api-key:partner-key", key);
+    }
+
+    /**
+     * Prueba 2: Verificar que una API key desconocida no evita el limite por IP
+     */
+    @Test
+    void resolve_ShouldFallBackToPeerAddressForUnknownApiKey() {
+        // Given
+        MockServerWebExchange first = exchangeWithApiKey("random-1");
+        MockServerWebExchange second = exchangeWithApiKey("random-2");
+
+        // When
+        String firstKey = rateLimitKeyResolver.resolve(first).block();
+        String secondKey = rateLimitKeyResolver.resolve(second).block();
+
+        // Then
+        assertEquals("ip:10.0.0.1", firstKey);
+        assertEquals(firstKey, secondKey);
+    }
+
+    /**
+     * Prueba 3: Verificar que sin API key se usa la IP
+     */
+    @Test
+    void resolve_ShouldKeyByPeerAddressWithoutApiKey() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products")
+                .remoteAddress(CLIENT_ADDRESS)
+                .build());
+
+        // When
+        String key = rateLimitKeyResolver.resolve(exchange).block();
+
+        // Then
+        assertEquals("ip:10.0.0.1", key);
+    }
+
+    private static MockServerWebExchange exchangeWithApiKey(String apiKey) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products")
+                .remoteAddress(CLIENT_ADDRESS)
+                .header("X-API-Key", apiKey)
+                .build());
+    }
+
+}
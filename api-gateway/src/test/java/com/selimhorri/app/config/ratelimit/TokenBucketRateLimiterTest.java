@@ -0,0 +1,91 @@
+package com.selimhorri.app.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.gateway.event.FilterArgsEvent;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+/**
+ * Pruebas unitarias para TokenBucketRateLimiter
+ * Valida la configuracion por ruta desde los argumentos del filtro, la configuracion por defecto y el redondeo de Retry-After
+ */
+class TokenBucketRateLimiterTest {
+
+    private TokenBucketRateLimiter tokenBucketRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        ConfigurationService configurationService = new ConfigurationService(new DefaultListableBeanFactory(),
+                DefaultFormattingConversionService::new, () -> null);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setDefaultReplenishRate(5);
+        properties.setDefaultBurstCapacity(7);
+        tokenBucketRateLimiter = new TokenBucketRateLimiter(configurationService, properties);
+    }
+
+    /**
+     * Prueba 1: Verificar que una ruta toma los limites de sus argumentos token-bucket-rate-limiter.*
+     */
+    @Test
+    void isAllowed_ShouldUseRouteConfigFromFilterArgs() {
+        // Given
+        tokenBucketRateLimiter.onApplicationEvent(new FilterArgsEvent(this, "ORDER-SERVICE", Map.of(
+                "token-bucket-rate-limiter.replenish-rate", "1",
+                "token-bucket-rate-limiter.burst-capacity", "2")));
+
+        // When
+        RateLimiter.Response first = tokenBucketRateLimiter.isAllowed("ORDER-SERVICE", "ip:10.0.0.1").block();
+        tokenBucketRateLimiter.isAllowed("ORDER-SERVICE", "ip:10.0.0.1").block();
+        RateLimiter.Response third = tokenBucketRateLimiter.isAllowed("ORDER-SERVICE", "ip:10.0.0.1").block();
+
+        // Then
+        assertTrue(first.isAllowed());
+        assertEquals("2", first.getHeaders().get(TokenBucketRateLimiter.BURST_CAPACITY_HEADER));
+        assertEquals("1", first.getHeaders().get(TokenBucketRateLimiter.REPLENISH_RATE_HEADER));
+        assertEquals("1", first.getHeaders().get(TokenBucketRateLimiter.REMAINING_HEADER));
+        assertFalse(third.isAllowed());
+        assertEquals("1", third.getHeaders().get(TokenBucketRateLimiter.RETRY_AFTER_HEADER));
+    }
+
+    /**
+     * Prueba 2: Verificar que una ruta sin argumentos usa la configuracion por defecto
+     */
+    @Test
+    void isAllowed_ShouldFallBackToDefaultConfig() {
+        // Given
+        tokenBucketRateLimiter.onApplicationEvent(new FilterArgsEvent(this, "ORDER-SERVICE", Map.of(
+                "token-bucket-rate-limiter.burst-capacity", "2",
+                "token-bucket-rate-limiter.replenish-rate", "1")));
+
+        // When
+        RateLimiter.Response response = tokenBucketRateLimiter.isAllowed("PAYMENT-SERVICE", "ip:10.0.0.1").block();
+
+        // Then
+        assertTrue(response.isAllowed());
+        assertEquals("7", response.getHeaders().get(TokenBucketRateLimiter.BURST_CAPACITY_HEADER));
+        assertEquals("5", response.getHeaders().get(TokenBucketRateLimiter.REPLENISH_RATE_HEADER));
+        assertEquals("6", response.getHeaders().get(TokenBucketRateLimiter.REMAINING_HEADER));
+    }
+
+    /**
+     * Prueba 3: Verificar que Retry-After redondea hacia arriba a segundos y nunca es 0
+     */
+    @Test
+    void retryAfterSeconds_ShouldRoundUpToWholeSeconds() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        assertEquals(1, TokenBucketRateLimiter.retryAfterSeconds(0));
+        assertEquals(1, TokenBucketRateLimiter.retryAfterSeconds(1));
+        assertEquals(1, TokenBucketRateLimiter.retryAfterSeconds(second));
+        assertEquals(2, TokenBucketRateLimiter.retryAfterSeconds(second + 1));
+        assertEquals(3, TokenBucketRateLimiter.retryAfterSeconds(3 * second - 1));
+    }
+
+}
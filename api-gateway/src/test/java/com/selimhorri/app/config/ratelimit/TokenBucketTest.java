@@ -0,0 +1,106 @@
+package com.selimhorri.app.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas unitarias para TokenBucket
+ * Valida la rafaga, el rellenado por tiempo transcurrido, el tope en la capacidad y que una denegacion no altera el estado
+ */
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private TokenBucket tokenBucket;
+
+    @BeforeEach
+    void setUp() {
+        tokenBucket = new TokenBucket(3, 2, START);
+    }
+
+    /**
+     * Prueba 1: Verificar que se admiten tantas peticiones seguidas como la capacidad y ni una mas
+     */
+    @Test
+    void tryConsume_ShouldAllowBurstUpToCapacity() {
+        // When
+        TokenBucket.Probe first = tokenBucket.tryConsume(1, START);
+        TokenBucket.Probe second = tokenBucket.tryConsume(1, START);
+        TokenBucket.Probe third = tokenBucket.tryConsume(1, START);
+        TokenBucket.Probe fourth = tokenBucket.tryConsume(1, START);
+
+        // Then
+        assertTrue(first.isAllowed());
+        assertEquals(2, first.getRemainingTokens());
+        assertEquals(1, second.getRemainingTokens());
+        assertTrue(third.isAllowed());
+        assertEquals(0, third.getRemainingTokens());
+        assertFalse(fourth.isAllowed());
+        assertEquals(SECOND / 2, fourth.getNanosToWait());
+    }
+
+    /**
+     * Prueba 2: Verificar que los tokens se reponen al ritmo configurado
+     */
+    @Test
+    void tryConsume_ShouldRefillAtReplenishRate() {
+        // Given
+        tokenBucket.tryConsume(3, START);
+
+        // When
+        TokenBucket.Probe early = tokenBucket.tryConsume(1, START + SECOND / 4);
+        TokenBucket.Probe onTime = tokenBucket.tryConsume(1, START + SECOND / 2);
+        TokenBucket.Probe later = tokenBucket.tryConsume(2, START + SECOND / 2 + SECOND);
+
+        // Then
+        assertFalse(early.isAllowed());
+        assertTrue(onTime.isAllowed());
+        assertEquals(0, onTime.getRemainingTokens());
+        assertTrue(later.isAllowed());
+        assertEquals(0, later.getRemainingTokens());
+    }
+
+    /**
+     * Prueba 3: Verificar que un cliente inactivo no acumula mas tokens que la capacidad
+     */
+    @Test
+    void tryConsume_ShouldCapRefillAtCapacity() {
+        // Given
+        tokenBucket.tryConsume(3, START);
+
+        // When
+        TokenBucket.Probe probe = tokenBucket.tryConsume(1, START + 100 * SECOND);
+        TokenBucket.Probe overBurst = tokenBucket.tryConsume(3, START + 100 * SECOND);
+
+        // Then
+        assertTrue(probe.isAllowed());
+        assertEquals(2, probe.getRemainingTokens());
+        assertFalse(overBurst.isAllowed());
+    }
+
+    /**
+     * Prueba 4: Verificar que una peticion denegada no consume ni reinicia el rellenado
+     */
+    @Test
+    void tryConsume_ShouldLeaveStateUnchangedOnDenial() {
+        // Given
+        tokenBucket.tryConsume(3, START);
+
+        // When
+        TokenBucket.Probe denied = tokenBucket.tryConsume(1, START + SECOND / 4);
+        TokenBucket.Probe deniedAgain = tokenBucket.tryConsume(1, START + SECOND / 4);
+        TokenBucket.Probe allowed = tokenBucket.tryConsume(1, START + SECOND / 2);
+
+        // Then
+        assertFalse(denied.isAllowed());
+        assertEquals(SECOND / 4, denied.getNanosToWait());
+        assertEquals(denied.getNanosToWait(), deniedAgain.getNanosToWait());
+        assertTrue(allowed.isAllowed());
+    }
+
+}
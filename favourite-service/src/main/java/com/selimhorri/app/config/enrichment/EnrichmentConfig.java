@@ -0,0 +1,32 @@
+package com.selimhorri.app.config.enrichment;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+	
+	@Bean
+	public EnrichmentExecutor enrichmentExecutorBean(final EnrichmentProperties enrichmentProperties, 
+			final MeterRegistry meterRegistry, final BeanFactory beanFactory) {
+		return new EnrichmentExecutor(enrichmentProperties, meterRegistry, beanFactory);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.enrichment")
+@Data
+public class EnrichmentProperties {
+	
+	private int corePoolSize = 8;
+	private int maxPoolSize = 32;
+	private int queueCapacity = 256;
+	private Duration deadline = Duration.ofSeconds(2);
+	
+}
+
+
+
+
+
+
+
+
+
+
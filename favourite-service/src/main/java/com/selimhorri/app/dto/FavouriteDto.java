@@ -2,6 +2,7 @@ package com.selimhorri.app.dto;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import javax.validation.constraints.NotNull;
 
@@ -52,6 +53,9 @@ public class FavouriteDto implements Serializable {
 	@JsonInclude(Include.NON_NULL)
 	private ProductDto productDto;
 	
+	@JsonInclude(Include.NON_EMPTY)
+	private Set<String> missingEnrichments;
+	
 }
 
 
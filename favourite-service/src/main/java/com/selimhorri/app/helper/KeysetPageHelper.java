@@ -0,0 +1,80 @@
+package com.selimhorri.app.helper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+
+public interface KeysetPageHelper {
+	
+	public static final String CURSOR_SEPARATOR = ",";
+	
+	public static int limit(final Integer requestedLimit) {
+		if (requestedLimit == null)
+			return AppConstant.DEFAULT_PAGE_SIZE;
+		return Math.max(1, Math.min(requestedLimit, AppConstant.MAX_PAGE_SIZE));
+	}
+	
+	public static Integer intCursor(final String after) {
+		if (after == null || after.isBlank())
+			return null;
+		try {
+			return Integer.parseInt(after.strip());
+		}
+		catch (NumberFormatException e) {
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", after), e);
+		}
+	}
+	
+	public static FavouriteId favouriteId(final String after) {
+		if (after == null || after.isBlank())
+			return null;
+		final String[] keys = after.strip().split(CURSOR_SEPARATOR, 3);
+		if (keys.length != 3)
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", after));
+		try {
+			return new FavouriteId(Integer.parseInt(keys[0]), Integer.parseInt(keys[1]), 
+					LocalDateTime.parse(keys[2], DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT)));
+		}
+		catch (NumberFormatException | DateTimeParseException e) {
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", after), e);
+		}
+	}
+	
+	public static String favouriteCursor(final FavouriteDto favouriteDto) {
+		return String.join(CURSOR_SEPARATOR, 
+				String.valueOf(favouriteDto.getUserId()), 
+				String.valueOf(favouriteDto.getProductId()), 
+				favouriteDto.getLikeDate().format(DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT)));
+	}
+	
+	/**
+	 * Builds a page out of a window fetched with limit + 1 rows, 
+	 * the extra row only tells whether a next page exists.
+	 */
+	public static <T> DtoCollectionResponse<T> page(final List<T> window, final int limit, 
+			final Function<T, String> cursorOf) {
+		if (window.size() <= limit)
+			return new DtoCollectionResponse<>(window, null, false);
+		final List<T> page = List.copyOf(window.subList(0, limit));
+		return new DtoCollectionResponse<>(page, cursorOf.apply(page.get(limit - 1)), true);
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,43 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 
 public interface FavouriteRepository extends JpaRepository<Favourite, FavouriteId> {
 	
+	@Query("SELECT f FROM Favourite f ORDER BY f.userId, f.productId, f.likeDate")
+	List<Favourite> findFirstPage(final Pageable pageable);
+	
+	@Query("SELECT f FROM Favourite f "
+			+ "WHERE f.userId > :userId "
+			+ "OR (f.userId = :userId AND (f.productId > :productId "
+			+ "OR (f.productId = :productId AND f.likeDate > :likeDate))) "
+			+ "ORDER BY f.userId, f.productId, f.likeDate")
+	List<Favourite> findPageAfter(@Param("userId") final Integer userId, 
+			@Param("productId") final Integer productId, 
+			@Param("likeDate") final LocalDateTime likeDate, 
+			final Pageable pageable);
 	
+	@QueryHints({
+			@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE), 
+			@QueryHint(name = HINT_READONLY, value = "true")})
+	@Query("SELECT f FROM Favourite f")
+	Stream<Favourite> streamAll();
 	
 }
@@ -1,6 +1,7 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
@@ -8,6 +9,8 @@ import com.selimhorri.app.dto.FavouriteDto;
 public interface FavouriteService {
 	
 	List<FavouriteDto> findAll();
+	List<FavouriteDto> findAll(final FavouriteId after, final int limit);
+	void streamAll(final Consumer<FavouriteDto> consumer);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
 	FavouriteDto update(final FavouriteDto favouriteDto);
@@ -1,14 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
@@ -17,6 +32,8 @@ import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
 import com.selimhorri.app.service.FavouriteService;
+import com.selimhorri.app.service.lookup.RemoteDtoCache;
+import com.selimhorri.app.service.lookup.RemoteLookupMemo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,25 +45,50 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RemoteLookupMemo remoteLookupMemo;
+	private final RemoteDtoCache remoteDtoCache;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrich(this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<FavouriteDto> findAll(final FavouriteId after, final int limit) {
+		log.info("*** FavouriteDto List, service; fetch favourites after cursor *");
+		final var pageRequest = PageRequest.of(0, limit);
+		final var favourites = (after == null) 
+				? this.favouriteRepository.findFirstPage(pageRequest) 
+				: this.favouriteRepository.findPageAfter(after.getUserId(), after.getProductId(), after.getLikeDate(), pageRequest);
+		return this.enrich(favourites.stream()
+				.map(FavouriteMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<FavouriteDto> consumer) {
+		log.info("*** FavouriteDto Stream, service; stream all favourites *");
+		final var chunk = new ArrayList<FavouriteDto>(AppConstant.BATCH_LOOKUP_CHUNK_SIZE);
+		try (final Stream<Favourite> favourites = this.favouriteRepository.streamAll()) {
+			favourites.forEach(favourite -> {
+				chunk.add(FavouriteMappingHelper.map(favourite));
+				if (chunk.size() == AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+					this.enrich(chunk).forEach(consumer);
+					chunk.clear();
+					this.entityManager.clear();
+				}
+			});
+		}
+		if (!chunk.isEmpty())
+			this.enrich(chunk).forEach(consumer);
 	}
 	
 	@Override
@@ -54,15 +96,7 @@ public class FavouriteServiceImpl implements FavouriteService {
 		log.info("*** FavouriteDto, service; fetch favourite by id *");
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
-				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-					return f;
-				})
+				.map(f -> this.enrich(List.of(f)).get(0))
 				.orElseThrow(() -> new FavouriteNotFoundException(
 						String.format("Favourite with id: [%s] not found!", favouriteId)));
 	}
@@ -84,6 +118,71 @@ public class FavouriteServiceImpl implements FavouriteService {
 		this.favouriteRepository.deleteById(favouriteId);
 	}
 	
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		
+		final var deadline = this.enrichmentExecutor.deadline();
+		final var userIds = favouriteDtos.stream()
+				.map(FavouriteDto::getUserId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		final var productIds = favouriteDtos.stream()
+				.map(FavouriteDto::getProductId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		
+		final var userLookup = this.remoteLookupMemo.resolveAsync("user-service", userIds, 
+				missingIds -> this.enrichmentExecutor.submit(() -> this.remoteDtoCache.getAll("users", missingIds, this::fetchUsers)));
+		final var productLookup = this.remoteLookupMemo.resolveAsync("product-service", productIds, 
+				missingIds -> this.enrichmentExecutor.submit(() -> this.remoteDtoCache.getAll("products", missingIds, this::fetchProducts)));
+		final Map<Integer, UserDto> userDtos = this.enrichmentExecutor
+				.await(userLookup, deadline, "user-service").orElse(Map.of());
+		final Map<Integer, ProductDto> productDtos = this.enrichmentExecutor
+				.await(productLookup, deadline, "product-service").orElse(Map.of());
+		
+		favouriteDtos.forEach(f -> {
+			final var missingEnrichments = new HashSet<String>();
+			if (userDtos.containsKey(f.getUserId()))
+				f.setUserDto(userDtos.get(f.getUserId()));
+			else
+				missingEnrichments.add("user");
+			if (productDtos.containsKey(f.getProductId()))
+				f.setProductDto(productDtos.get(f.getProductId()));
+			else
+				missingEnrichments.add("product");
+			f.setMissingEnrichments(missingEnrichments.isEmpty() ? null : missingEnrichments);
+		});
+		
+		return favouriteDtos;
+	}
+	
+	private Map<Integer, UserDto> fetchUsers(final Collection<Integer> userIds) {
+		final var userIdList = new ArrayList<>(userIds);
+		final var userDtos = new HashMap<Integer, UserDto>(userIdList.size());
+		for (int from = 0; from < userIdList.size(); from += AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+			final var chunk = userIdList.subList(from, Math.min(from + AppConstant.BATCH_LOOKUP_CHUNK_SIZE, userIdList.size()));
+			final Map<Integer, UserDto> fetched = this.restTemplate.exchange(AppConstant.DiscoveredDomainsApi
+					.USER_SERVICE_API_URL + "/batch", HttpMethod.POST, new HttpEntity<>(chunk), 
+					new ParameterizedTypeReference<Map<Integer, UserDto>>() {}).getBody();
+			if (fetched != null)
+				userDtos.putAll(fetched);
+		}
+		return userDtos;
+	}
+	
+	private Map<Integer, ProductDto> fetchProducts(final Collection<Integer> productIds) {
+		final var productIdList = new ArrayList<>(productIds);
+		final var productDtos = new HashMap<Integer, ProductDto>(productIdList.size());
+		for (int from = 0; from < productIdList.size(); from += AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+			final var chunk = productIdList.subList(from, Math.min(from + AppConstant.BATCH_LOOKUP_CHUNK_SIZE, productIdList.size()));
+			final Map<Integer, ProductDto> fetched = this.restTemplate.exchange(AppConstant.DiscoveredDomainsApi
+					.PRODUCT_SERVICE_API_URL + "/batch", HttpMethod.POST, new HttpEntity<>(chunk), 
+					new ParameterizedTypeReference<Map<Integer, ProductDto>>() {}).getBody();
+			if (fetched != null)
+				productDtos.putAll(fetched);
+		}
+		return productDtos;
+	}
+	
 	
 	
 }
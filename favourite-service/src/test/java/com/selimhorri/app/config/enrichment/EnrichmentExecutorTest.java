@@ -0,0 +1,146 @@
+package com.selimhorri.app.config.enrichment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.service.lookup.RemoteLookupMemo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para EnrichmentExecutor
+ * Valida que el deadline se respeta y que un pool saturado no ejecuta la consulta en el hilo del request
+ */
+class EnrichmentExecutorTest {
+
+    private ThreadPoolExecutor threadPool;
+    private SimpleMeterRegistry meterRegistry;
+    private EnrichmentExecutor enrichmentExecutor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setCorePoolSize(1);
+        properties.setMaxPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setDeadline(Duration.ofMillis(100));
+        threadPool = EnrichmentExecutor.threadPoolOf(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        enrichmentExecutor = new EnrichmentExecutor(threadPool, meterRegistry, properties.getDeadline());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        threadPool.shutdownNow();
+    }
+
+    /**
+     * Prueba 1: Verificar que una consulta lenta devuelve vacio al vencer el deadline y se interrumpe
+     */
+    @Test
+    void testAwait_ShouldReturnEmptyAndInterruptLookupAfterDeadline() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> lookup = enrichmentExecutor.submit(() -> {
+            try {
+                release.await();
+                return "late";
+            }
+            catch (InterruptedException e) {
+                interrupted.countDown();
+                return null;
+            }
+        });
+
+        // When
+        long start = System.nanoTime();
+        Optional<String> result = enrichmentExecutor.await(lookup, enrichmentExecutor.deadline(), "user-service");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertTrue(elapsedMillis < 1000);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.counter("enrichment.partial", "dependency", "user-service", "cause", "timeout").count());
+    }
+
+    /**
+     * Prueba 2: Verificar que con el pool saturado la consulta se rechaza sin correr en el hilo que llama
+     */
+    @Test
+    void testSubmit_ShouldRejectWhenSaturatedInsteadOfRunningOnCaller() {
+        // Given
+        enrichmentExecutor.submit(this::blockUntilReleased);
+        enrichmentExecutor.submit(this::blockUntilReleased);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        long start = System.nanoTime();
+        CompletableFuture<String> lookup = enrichmentExecutor.submit(() -> {
+            ran.set(true);
+            return "ran";
+        });
+        Optional<String> result = enrichmentExecutor.await(lookup, enrichmentExecutor.deadline(), "product-service");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertFalse(ran.get());
+        assertTrue(elapsedMillis < 100);
+        assertEquals(1.0, meterRegistry.counter("enrichment.partial", "dependency", "product-service", "cause", "rejected").count());
+    }
+
+    /**
+     * Prueba 3: Verificar que al vencer el deadline de una consulta memorizada se interrumpe la carga remota
+     */
+    @Test
+    void testAwait_ShouldInterruptMemoizedLookupAfterDeadline() throws InterruptedException {
+        // Given
+        RemoteLookupMemo remoteLookupMemo = new RemoteLookupMemo(meterRegistry);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<Map<Integer, String>> lookup = remoteLookupMemo.resolveAsync("user-service", Set.of(1, 2),
+                missingIds -> enrichmentExecutor.submit(() -> {
+                    try {
+                        release.await();
+                        return Map.of(1, "late");
+                    }
+                    catch (InterruptedException e) {
+                        interrupted.countDown();
+                        return null;
+                    }
+                }));
+
+        // When
+        Optional<Map<Integer, String>> result = enrichmentExecutor.await(lookup, enrichmentExecutor.deadline(), "user-service");
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "blocked";
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.selimhorri.app.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+
+/**
+ * Pruebas unitarias para KeysetPageHelper
+ * Valida que los cursores generados se pueden leer de vuelta y que un cursor mal formado se rechaza como error del cliente
+ */
+class KeysetPageHelperTest {
+
+    /**
+     * Prueba 1: Verificar que el cursor de un favorito se convierte de vuelta en su clave
+     */
+    @Test
+    void favouriteId_ShouldReadBackFavouriteCursor() {
+        // Given
+        LocalDateTime likeDate = LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123456000);
+        FavouriteDto favouriteDto = FavouriteDto.builder()
+                .userId(3)
+                .productId(7)
+                .likeDate(likeDate)
+                .build();
+
+        // When
+        FavouriteId favouriteId = KeysetPageHelper.favouriteId(KeysetPageHelper.favouriteCursor(favouriteDto));
+
+        // Then
+        assertEquals(new FavouriteId(3, 7, likeDate), favouriteId);
+    }
+
+    /**
+     * Prueba 2: Verificar que los cursores mal formados lanzan InvalidCursorException
+     */
+    @Test
+    void cursors_ShouldRejectMalformedInput() {
+        assertThrows(InvalidCursorException.class, () -> KeysetPageHelper.intCursor("abc"));
+        assertThrows(InvalidCursorException.class, () -> KeysetPageHelper.favouriteId("3"));
+        assertThrows(InvalidCursorException.class, () -> KeysetPageHelper.favouriteId("3,x,17-10-2026__09:30:15:123456"));
+        assertThrows(InvalidCursorException.class, () -> KeysetPageHelper.favouriteId("3,7,yesterday"));
+    }
+
+    /**
+     * Prueba 3: Verificar que un cursor vacio significa primera pagina
+     */
+    @Test
+    void cursors_ShouldTreatBlankAsFirstPage() {
+        assertNull(KeysetPageHelper.intCursor(" "));
+        assertNull(KeysetPageHelper.favouriteId(null));
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCacheConfig {
+	
+	@Bean
+	public CacheManager nearCacheManager(final NearCacheProperties nearCacheProperties) {
+		final var cacheManager = new CaffeineCacheManager();
+		// a fixed set of names, so an unknown one is an error instead of a new unbounded cache
+		cacheManager.setCacheNames(nearCacheProperties.getCaches().keySet());
+		nearCacheProperties.getCaches().forEach((cacheName, spec) -> 
+				cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+						.maximumSize(spec.getMaximumSize())
+						.expireAfterWrite(spec.getTtl())
+						.recordStats()
+						.build()));
+		return cacheManager;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.near-cache")
+@Data
+public class NearCacheProperties {
+	
+	private Map<String, Spec> caches = new HashMap<>();
+	
+	@Data
+	public static class Spec {
+		
+		private long maximumSize = 10_000L;
+		private Duration ttl = Duration.ofMinutes(5);
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,51 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+
+public interface KeysetPageHelper {
+	
+	public static int limit(final Integer requestedLimit) {
+		if (requestedLimit == null)
+			return AppConstant.DEFAULT_PAGE_SIZE;
+		return Math.max(1, Math.min(requestedLimit, AppConstant.MAX_PAGE_SIZE));
+	}
+	
+	public static Integer intCursor(final String after) {
+		if (after == null || after.isBlank())
+			return null;
+		try {
+			return Integer.parseInt(after.strip());
+		}
+		catch (NumberFormatException e) {
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", after), e);
+		}
+	}
+	
+	/**
+	 * Builds a page out of a window fetched with limit + 1 rows, 
+	 * the extra row only tells whether a next page exists.
+	 */
+	public static <T> DtoCollectionResponse<T> page(final List<T> window, final int limit, 
+			final Function<T, String> cursorOf) {
+		if (window.size() <= limit)
+			return new DtoCollectionResponse<>(window, null, false);
+		final List<T> page = List.copyOf(window.subList(0, limit));
+		return new DtoCollectionResponse<>(page, cursorOf.apply(page.get(limit - 1)), true);
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,49 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.constant.AppConstant;
+
+public interface NdjsonStreamHelper {
+	
+	/**
+	 * Writes every row handed over by the producer as one JSON line, 
+	 * flushing every STREAM_FLUSH_SIZE rows so clients can consume early.
+	 */
+	public static <T> StreamingResponseBody stream(final ObjectMapper objectMapper, final Consumer<Consumer<T>> producer) {
+		final var objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		return outputStream -> {
+			final var rows = new AtomicInteger();
+			producer.accept(row -> {
+				try {
+					outputStream.write(objectWriter.writeValueAsBytes(row));
+					outputStream.write('\n');
+					if (rows.incrementAndGet() % AppConstant.STREAM_FLUSH_SIZE == 0)
+						outputStream.flush();
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			outputStream.flush();
+		};
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,17 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Cart;
 
 public interface CartRepository extends JpaRepository<Cart, Integer> {
 	
-	
+	@Query("SELECT c FROM Cart c WHERE c.cartId > :after ORDER BY c.cartId")
+	List<Cart> findPageAfter(@Param("after") final Integer after, final Pageable pageable);
 	
 }
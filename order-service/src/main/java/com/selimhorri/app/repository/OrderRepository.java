@@ -1,11 +1,35 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Order;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart WHERE o.orderId IN :orderIds")
+	List<Order> findAllByOrderIdIn(@Param("orderIds") final Collection<Integer> orderIds);
+	
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart WHERE o.orderId > :after ORDER BY o.orderId")
+	List<Order> findPageAfter(@Param("after") final Integer after, final Pageable pageable);
 	
+	@QueryHints({
+			@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE), 
+			@QueryHint(name = HINT_READONLY, value = "true")})
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart")
+	Stream<Order> streamAll();
 	
 }
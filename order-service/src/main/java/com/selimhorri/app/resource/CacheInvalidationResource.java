@@ -0,0 +1,57 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.service.lookup.RemoteDtoCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/cache/invalidations")
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationResource {
+	
+	private final RemoteDtoCache remoteDtoCache;
+	private final CacheInvalidationProperties cacheInvalidationProperties;
+	
+	@PostMapping
+	public ResponseEntity<Boolean> invalidate(
+			@RequestHeader(name = CacheInvalidationProperties.TOKEN_HEADER, required = false) final String token, 
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final CacheInvalidationDto cacheInvalidationDto) {
+		log.info("*** Boolean, resource; invalidate near cache entries *");
+		if (!this.cacheInvalidationProperties.accepts(token))
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(false);
+		if (!this.remoteDtoCache.contains(cacheInvalidationDto.getCacheName()))
+			return ResponseEntity.badRequest().body(false);
+		this.remoteDtoCache.evict(cacheInvalidationDto.getCacheName(), cacheInvalidationDto.getIds());
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
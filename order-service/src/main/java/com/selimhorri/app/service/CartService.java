@@ -7,6 +7,7 @@ import com.selimhorri.app.dto.CartDto;
 public interface CartService {
 	
 	List<CartDto> findAll();
+	List<CartDto> findAll(final Integer after, final int limit);
 	CartDto findById(final Integer cartId);
 	CartDto save(final CartDto cartDto);
 	CartDto update(final CartDto cartDto);
@@ -1,16 +1,22 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	List<OrderDto> findAll(final Integer after, final int limit);
+	void streamAll(final Consumer<OrderDto> consumer);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
 	void deleteById(final Integer orderId);
+	Map<Integer, OrderDto> findAllByIds(final Collection<Integer> orderIds);
 	
 }
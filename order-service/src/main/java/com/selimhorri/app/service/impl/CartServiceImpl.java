@@ -1,10 +1,19 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -15,6 +24,8 @@ import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
 import com.selimhorri.app.service.CartService;
+import com.selimhorri.app.service.lookup.RemoteDtoCache;
+import com.selimhorri.app.service.lookup.RemoteLookupMemo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,20 +38,26 @@ public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
 	private final RestTemplate restTemplate;
+	private final RemoteLookupMemo remoteLookupMemo;
+	private final RemoteDtoCache remoteDtoCache;
 	
 	@Override
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		return this.enrich(this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<CartDto> findAll(final Integer after, final int limit) {
+		log.info("*** CartDto List, service; fetch carts after cursor *");
+		return this.enrich(this.cartRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
@@ -48,11 +65,7 @@ public class CartServiceImpl implements CartService {
 		log.info("*** CartDto, service; fetch cart by id *");
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
-				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-					return c;
-				})
+				.map(c -> this.enrich(List.of(c)).get(0))
 				.orElseThrow(() -> new CartNotFoundException(String
 						.format("Cart with id: %d not found", cartId)));
 	}
@@ -84,6 +97,29 @@ public class CartServiceImpl implements CartService {
 		this.cartRepository.deleteById(cartId);
 	}
 	
+	private List<CartDto> enrich(final List<CartDto> cartDtos) {
+		final Map<Integer, UserDto> userDtos = this.remoteLookupMemo.resolve("user-service", cartDtos.stream()
+				.map(CartDto::getUserId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet()), ids -> this.remoteDtoCache.getAll("users", ids, this::fetchUsers));
+		cartDtos.forEach(c -> c.setUserDto(userDtos.getOrDefault(c.getUserId(), c.getUserDto())));
+		return cartDtos;
+	}
+	
+	private Map<Integer, UserDto> fetchUsers(final Collection<Integer> userIds) {
+		final var userIdList = new ArrayList<>(userIds);
+		final var userDtos = new HashMap<Integer, UserDto>(userIdList.size());
+		for (int from = 0; from < userIdList.size(); from += AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+			final var chunk = userIdList.subList(from, Math.min(from + AppConstant.BATCH_LOOKUP_CHUNK_SIZE, userIdList.size()));
+			final Map<Integer, UserDto> fetched = this.restTemplate.exchange(AppConstant.DiscoveredDomainsApi
+					.USER_SERVICE_API_URL + "/batch", HttpMethod.POST, new HttpEntity<>(chunk), 
+					new ParameterizedTypeReference<Map<Integer, UserDto>>() {}).getBody();
+			if (fetched != null)
+				userDtos.putAll(fetched);
+		}
+		return userDtos;
+	}
+	
 	
 	
 }
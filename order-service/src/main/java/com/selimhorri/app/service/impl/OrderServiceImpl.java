@@ -1,17 +1,31 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.OrderService;
+import com.selimhorri.app.service.invalidation.CacheInvalidationEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<OrderDto> findAll() {
@@ -34,6 +50,28 @@ public class OrderServiceImpl implements OrderService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<OrderDto> findAll(final Integer after, final int limit) {
+		log.info("*** OrderDto List, service; fetch orders after cursor *");
+		return this.orderRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; stream all orders *");
+		final var rows = new AtomicInteger();
+		try (final Stream<Order> orders = this.orderRepository.streamAll()) {
+			orders.forEach(order -> {
+				consumer.accept(OrderMappingHelper.map(order));
+				if (rows.incrementAndGet() % AppConstant.STREAM_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			});
+		}
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -53,21 +91,41 @@ public class OrderServiceImpl implements OrderService {
 	@Override
 	public OrderDto update(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order *");
-		return OrderMappingHelper.map(this.orderRepository
+		final var updated = OrderMappingHelper.map(this.orderRepository
 				.save(OrderMappingHelper.map(orderDto)));
+		this.evictRemote(updated.getOrderId());
+		return updated;
 	}
 	
 	@Override
 	public OrderDto update(final Integer orderId, final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order with orderId *");
-		return OrderMappingHelper.map(this.orderRepository
+		final var updated = OrderMappingHelper.map(this.orderRepository
 				.save(OrderMappingHelper.map(this.findById(orderId))));
+		this.evictRemote(orderId);
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer orderId) {
 		log.info("*** Void, service; delete order by id *");
 		this.orderRepository.delete(OrderMappingHelper.map(this.findById(orderId)));
+		this.evictRemote(orderId);
+	}
+	
+	@Override
+	public Map<Integer, OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto Map, service; fetch orders by ids *");
+		if (orderIds == null || orderIds.isEmpty())
+			return Map.of();
+		return this.orderRepository.findAllByOrderIdIn(orderIds)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(OrderDto::getOrderId, Function.identity(), (o1, o2) -> o1));
+	}
+	
+	private void evictRemote(final Integer orderId) {
+		this.applicationEventPublisher.publishEvent(new CacheInvalidationEvent("orders", Set.of(orderId)));
 	}
 	
 	
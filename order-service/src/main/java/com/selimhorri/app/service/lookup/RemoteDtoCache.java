@@ -0,0 +1,69 @@
+package com.selimhorri.app.service.lookup;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide, size-bounded cache of DTOs owned by other services. Entries expire 
+ * after the TTL configured under app.near-cache and are evicted early when the 
+ * owning service broadcasts a change.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RemoteDtoCache {
+	
+	private final CacheManager nearCacheManager;
+	
+	@SuppressWarnings("unchecked")
+	public <T> Map<Integer, T> getAll(final String cacheName, final Set<Integer> ids, 
+			final Function<Set<Integer>, Map<Integer, T>> loader) {
+		final Cache<Integer, T> cache = (Cache<Integer, T>) (Cache<?, ?>) this.nativeCache(cacheName);
+		return cache.getAll(ids, missingIds -> {
+			final var missing = new HashSet<Integer>();
+			missingIds.forEach(missing::add);
+			return loader.apply(missing);
+		});
+	}
+	
+	public boolean contains(final String cacheName) {
+		return this.nearCacheManager.getCacheNames().contains(cacheName);
+	}
+	
+	public void evict(final String cacheName, final Collection<Integer> ids) {
+		log.info("*** Void, near cache; evict {} entries from {} *", ids.size(), cacheName);
+		this.nativeCache(cacheName).invalidateAll(ids);
+	}
+	
+	private Cache<Object, Object> nativeCache(final String cacheName) {
+		final var cache = this.nearCacheManager.getCache(cacheName);
+		if (!(cache instanceof CaffeineCache))
+			throw new IllegalArgumentException(String.format("No near cache named: %s", cacheName));
+		return ((CaffeineCache) cache).getNativeCache();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
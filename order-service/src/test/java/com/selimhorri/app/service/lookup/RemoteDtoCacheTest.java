@@ -0,0 +1,60 @@
+package com.selimhorri.app.service.lookup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import com.selimhorri.app.config.cache.NearCacheConfig;
+import com.selimhorri.app.config.cache.NearCacheProperties;
+
+/**
+ * Pruebas unitarias para RemoteDtoCache
+ * Valida que solo existen los caches configurados y que un nombre desconocido no crea uno nuevo
+ */
+class RemoteDtoCacheTest {
+
+    private CacheManager nearCacheManager;
+    private RemoteDtoCache remoteDtoCache;
+
+    @BeforeEach
+    void setUp() {
+        NearCacheProperties properties = new NearCacheProperties();
+        properties.setCaches(Map.of("users", new NearCacheProperties.Spec()));
+        nearCacheManager = new NearCacheConfig().nearCacheManager(properties);
+        remoteDtoCache = new RemoteDtoCache(nearCacheManager);
+    }
+
+    /**
+     * Prueba 1: Verificar que un cache configurado carga y guarda los ids
+     */
+    @Test
+    void testGetAll_ShouldLoadFromConfiguredCache() {
+        // When
+        Map<Integer, String> result = remoteDtoCache.getAll("users", Set.of(1, 2),
+                ids -> ids.stream().collect(Collectors.toMap(Function.identity(), id -> "user-" + id)));
+
+        // Then
+        assertEquals(Map.of(1, "user-1", 2, "user-2"), result);
+        assertTrue(remoteDtoCache.contains("users"));
+    }
+
+    /**
+     * Prueba 2: Verificar que un nombre desconocido se rechaza sin crear un cache
+     */
+    @Test
+    void testGetAll_ShouldRejectUnknownCacheName() {
+        // When / Then
+        assertFalse(remoteDtoCache.contains("usres"));
+        assertThrows(IllegalArgumentException.class, () -> remoteDtoCache.getAll("usres", Set.of(1), ids -> Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> remoteDtoCache.evict("usres", Set.of(1)));
+        assertEquals(Set.of("users"), Set.copyOf(nearCacheManager.getCacheNames()));
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.selimhorri.app.service.lookup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para RemoteLookupMemo
+ * Valida que cada id remoto se resuelva una sola vez por peticion
+ */
+class RemoteLookupMemoTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RemoteLookupMemo remoteLookupMemo;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remoteLookupMemo = new RemoteLookupMemo(meterRegistry);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Prueba 1: Verificar que solo se cargan los ids que no estaban memorizados
+     */
+    @Test
+    void testResolve_ShouldLoadOnlyMissingIds() {
+        // Given
+        AtomicInteger loadedIds = new AtomicInteger();
+        Function<Set<Integer>, Map<Integer, String>> loader = ids -> {
+            loadedIds.addAndGet(ids.size());
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> "user-" + id));
+        };
+
+        // When
+        remoteLookupMemo.resolve("user-service", Set.of(1, 2), loader);
+        Map<Integer, String> result = remoteLookupMemo.resolve("user-service", Set.of(1, 2, 3), loader);
+
+        // Then
+        assertEquals(3, loadedIds.get());
+        assertEquals(Map.of(1, "user-1", 2, "user-2", 3, "user-3"), result);
+        assertEquals(2.0, meterRegistry.counter("remote.lookup.memo", "dependency", "user-service", "result", "hit").count());
+        assertEquals(3.0, meterRegistry.counter("remote.lookup.memo", "dependency", "user-service", "result", "miss").count());
+    }
+
+    /**
+     * Prueba 2: Verificar que una segunda peticion comparte la carga en curso
+     */
+    @Test
+    void testResolveAsync_ShouldShareInFlightLookup() {
+        // Given
+        CompletableFuture<Map<Integer, String>> inFlight = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        CompletableFuture<Map<Integer, String>> first = remoteLookupMemo.resolveAsync("user-service", Set.of(7),
+                ids -> { loads.incrementAndGet(); return inFlight; });
+        CompletableFuture<Map<Integer, String>> second = remoteLookupMemo.resolveAsync("user-service", Set.of(7),
+                ids -> { loads.incrementAndGet(); return CompletableFuture.completedFuture(Map.of()); });
+        inFlight.complete(Map.of(7, "user-7"));
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals("user-7", first.join().get(7));
+        assertEquals("user-7", second.join().get(7));
+    }
+
+    /**
+     * Prueba 3: Verificar que un fallo no queda memorizado
+     */
+    @Test
+    void testResolve_WhenLoaderFails_ShouldRetryOnNextCall() {
+        // Given
+        Function<Set<Integer>, Map<Integer, String>> failing = ids -> { throw new IllegalStateException("down"); };
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> remoteLookupMemo.resolve("user-service", Set.of(5), failing));
+        Map<Integer, String> result = remoteLookupMemo.resolve("user-service", Set.of(5), ids -> Map.of(5, "user-5"));
+        assertEquals("user-5", result.get(5));
+    }
+}
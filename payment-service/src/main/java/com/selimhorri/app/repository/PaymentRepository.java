@@ -1,11 +1,33 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 	
+	@Query("SELECT p FROM Payment p WHERE p.paymentId > :after ORDER BY p.paymentId")
+	List<Payment> findPageAfter(@Param("after") final Integer after, final Pageable pageable);
+	
+	List<Payment> findAllByOrderId(final Integer orderId);
 	
+	@QueryHints({
+			@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE), 
+			@QueryHint(name = HINT_READONLY, value = "true")})
+	@Query("SELECT p FROM Payment p")
+	Stream<Payment> streamAll();
 	
 }
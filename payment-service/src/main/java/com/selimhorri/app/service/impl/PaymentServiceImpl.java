@@ -1,20 +1,35 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
 import com.selimhorri.app.service.PaymentService;
+import com.selimhorri.app.service.lookup.RemoteDtoCache;
+import com.selimhorri.app.service.lookup.RemoteLookupMemo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,21 +41,46 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final RemoteLookupMemo remoteLookupMemo;
+	private final RemoteDtoCache remoteDtoCache;
 	
 	@Override
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.enrich(this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<PaymentDto> findAll(final Integer after, final int limit) {
+		log.info("*** PaymentDto List, service; fetch payments after cursor *");
+		return this.enrich(this.paymentRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; stream all payments *");
+		final var chunk = new ArrayList<PaymentDto>(AppConstant.BATCH_LOOKUP_CHUNK_SIZE);
+		try (final Stream<Payment> payments = this.paymentRepository.streamAll()) {
+			payments.forEach(payment -> {
+				chunk.add(PaymentMappingHelper.map(payment));
+				if (chunk.size() == AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+					this.enrich(chunk).forEach(consumer);
+					chunk.clear();
+					this.entityManager.clear();
+				}
+			});
+		}
+		if (!chunk.isEmpty())
+			this.enrich(chunk).forEach(consumer);
 	}
 	
 	@Override
@@ -48,14 +88,19 @@ public class PaymentServiceImpl implements PaymentService {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
-				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-					return p;
-				})
+				.map(p -> this.enrich(List.of(p)).get(0))
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
 	}
 	
+	@Override
+	public List<PaymentDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** PaymentDto List, service; fetch payments by order id *");
+		return this.enrich(this.paymentRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toList()));
+	}
+	
 	@Override
 	public PaymentDto save(final PaymentDto paymentDto) {
 		log.info("*** PaymentDto, service; save payment *");
@@ -76,6 +121,29 @@ public class PaymentServiceImpl implements PaymentService {
 		this.paymentRepository.deleteById(paymentId);
 	}
 	
+	private List<PaymentDto> enrich(final List<PaymentDto> paymentDtos) {
+		final Map<Integer, OrderDto> orderDtos = this.remoteLookupMemo.resolve("order-service", paymentDtos.stream()
+				.map(p -> p.getOrderDto().getOrderId())
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet()), ids -> this.remoteDtoCache.getAll("orders", ids, this::fetchOrders));
+		paymentDtos.forEach(p -> p.setOrderDto(orderDtos.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto())));
+		return paymentDtos;
+	}
+	
+	private Map<Integer, OrderDto> fetchOrders(final Collection<Integer> orderIds) {
+		final var orderIdList = new ArrayList<>(orderIds);
+		final var orderDtos = new HashMap<Integer, OrderDto>(orderIdList.size());
+		for (int from = 0; from < orderIdList.size(); from += AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+			final var chunk = orderIdList.subList(from, Math.min(from + AppConstant.BATCH_LOOKUP_CHUNK_SIZE, orderIdList.size()));
+			final Map<Integer, OrderDto> fetched = this.restTemplate.exchange(AppConstant.DiscoveredDomainsApi
+					.ORDER_SERVICE_API_URL + "/batch", HttpMethod.POST, new HttpEntity<>(chunk), 
+					new ParameterizedTypeReference<Map<Integer, OrderDto>>() {}).getBody();
+			if (fetched != null)
+				orderDtos.putAll(fetched);
+		}
+		return orderDtos;
+	}
+	
 	
 	
 }
@@ -0,0 +1,63 @@
+package com.selimhorri.app.config.search;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.selimhorri.app.service.search.ProductSuggestIndex;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ProductSuggestProperties.class)
+@RequiredArgsConstructor
+public class ProductSuggestConfig implements SchedulingConfigurer {
+	
+	private final ProductSuggestIndex productSuggestIndex;
+	private final ProductSuggestProperties productSuggestProperties;
+	
+	@Override
+	public void configureTasks(final ScheduledTaskRegistrar scheduledTaskRegistrar) {
+		scheduledTaskRegistrar.addFixedDelayTask(this.productSuggestIndex::flushViews, 
+				this.productSuggestProperties.getViewFlushInterval().toMillis());
+	}
+	
+	/**
+	 * Footprint gauges walk the trie under its read lock, so they cost one traversal 
+	 * per scrape and nothing on the request path.
+	 */
+	@Bean
+	public MeterBinder productSuggestIndexMetricsBean() {
+		return registry -> {
+			Gauge.builder("product.suggest.index.memory", this.productSuggestIndex, ProductSuggestIndex::estimatedBytes)
+					.description("Estimated heap held by the autocomplete trie and its titles")
+					.baseUnit("bytes")
+					.register(registry);
+			Gauge.builder("product.suggest.index.nodes", this.productSuggestIndex, ProductSuggestIndex::nodeCount)
+					.description("Nodes in the autocomplete trie")
+					.register(registry);
+			Gauge.builder("product.suggest.index.entries", this.productSuggestIndex, ProductSuggestIndex::size)
+					.description("Product and category titles in the autocomplete trie")
+					.register(registry);
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.search;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.product-suggest")
+@Data
+public class ProductSuggestProperties {
+	
+	private int topK = 10;
+	private int maxKeyLength = 64;
+	private Duration viewFlushInterval = Duration.ofSeconds(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.domain.id;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CategoryClosureId implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private Integer ancestorId;
+	private Integer descendantId;
+	
+}
+
+
+
+
+
+
+
+
+
+
+
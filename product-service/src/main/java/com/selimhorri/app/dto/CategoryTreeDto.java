@@ -0,0 +1,31 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Immutable node of the category tree snapshot, safe to share between requests.
+ */
+@Value
+public class CategoryTreeDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	Integer categoryId;
+	String categoryTitle;
+	String imageUrl;
+	List<CategoryTreeDto> subCategories;
+	
+}
+
+
+
+
+
+
+
+
+
+
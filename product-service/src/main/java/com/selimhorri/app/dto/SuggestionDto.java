@@ -0,0 +1,32 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class SuggestionDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private String text;
+	private String type;
+	private Integer id;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,36 @@
+package com.selimhorri.app.dto.projection;
+
+import java.io.Serializable;
+
+import lombok.Value;
+
+/**
+ * Flat read model of a product and its category, built by JPQL constructor 
+ * expressions over a single join; never managed by the persistence context.
+ */
+@Value
+public class ProductProjection implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	Integer productId;
+	String productTitle;
+	String imageUrl;
+	String sku;
+	Double priceUnit;
+	Integer quantity;
+	Integer categoryId;
+	String categoryTitle;
+	String categoryImageUrl;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -4,6 +4,7 @@ import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.projection.ProductProjection;
 
 public interface ProductMappingHelper {
 	
@@ -24,6 +25,23 @@ public interface ProductMappingHelper {
 				.build();
 	}
 	
+	public static ProductDto map(final ProductProjection productProjection) {
+		return ProductDto.builder()
+				.productId(productProjection.getProductId())
+				.productTitle(productProjection.getProductTitle())
+				.imageUrl(productProjection.getImageUrl())
+				.sku(productProjection.getSku())
+				.priceUnit(productProjection.getPriceUnit())
+				.quantity(productProjection.getQuantity())
+				.categoryDto(
+						CategoryDto.builder()
+							.categoryId(productProjection.getCategoryId())
+							.categoryTitle(productProjection.getCategoryTitle())
+							.imageUrl(productProjection.getCategoryImageUrl())
+							.build())
+				.build();
+	}
+	
 	public static Product map(final ProductDto productDto) {
 		return Product.builder()
 				.productId(productDto.getProductId())
@@ -0,0 +1,51 @@
+package com.selimhorri.app.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.CategoryClosure;
+import com.selimhorri.app.domain.id.CategoryClosureId;
+
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosureId> {
+	
+	@Query("SELECT cc.ancestorId FROM CategoryClosure cc WHERE cc.descendantId = :categoryId AND cc.depth = 1")
+	Optional<Integer> findParentId(@Param("categoryId") final Integer categoryId);
+	
+	@Query("SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId")
+	List<Integer> findDescendantIds(@Param("categoryId") final Integer categoryId);
+	
+	/**
+	 * Cuts a subtree loose from everything above it, keeping its inner paths.
+	 */
+	@Modifying
+	@Query("DELETE FROM CategoryClosure cc WHERE cc.descendantId IN :subtree AND cc.ancestorId NOT IN :subtree")
+	int detach(@Param("subtree") final Collection<Integer> subtree);
+	
+	/**
+	 * Links every node of the subtree rooted at the category to every ancestor of the 
+	 * new parent, the parent itself included.
+	 */
+	@Modifying
+	@Query(nativeQuery = true, value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) "
+			+ "SELECT supertree.ancestor_id, subtree.descendant_id, supertree.depth + subtree.depth + 1 "
+			+ "FROM category_closure supertree, category_closure subtree "
+			+ "WHERE supertree.descendant_id = :parentCategoryId AND subtree.ancestor_id = :categoryId")
+	int attach(@Param("categoryId") final Integer categoryId, @Param("parentCategoryId") final Integer parentCategoryId);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,27 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Category;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "parentCategory")
+	List<Category> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "parentCategory")
+	Optional<Category> findById(final Integer categoryId);
 	
+	@Query("SELECT c FROM Category c LEFT JOIN FETCH c.parentCategory WHERE c.categoryId > :after ORDER BY c.categoryId")
+	List<Category> findPageAfter(@Param("after") final Integer after, final Pageable pageable);
 	
 }
@@ -1,11 +1,67 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.projection.ProductProjection;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	/**
+	 * Select list and single join shared by the read-only list queries.
+	 */
+	String PROJECTION = "SELECT new com.selimhorri.app.dto.projection.ProductProjection("
+			+ "p.productId, p.productTitle, p.imageUrl, p.sku, p.priceUnit, p.quantity, "
+			+ "c.categoryId, c.categoryTitle, c.imageUrl) "
+			+ "FROM Product p LEFT JOIN p.category c ";
+	
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.productId IN :productIds")
+	List<Product> findAllByProductIdIn(@Param("productIds") final Collection<Integer> productIds);
+	
+	@Query("SELECT p FROM Product p JOIN FETCH p.category c WHERE c.categoryId IN :categoryIds")
+	List<Product> findAllByCategoryIdIn(@Param("categoryIds") final Collection<Integer> categoryIds);
+	
+	@Query(PROJECTION + "ORDER BY p.productId")
+	List<ProductProjection> findAllProjected();
+	
+	@Query(PROJECTION + "WHERE p.productId > :after ORDER BY p.productId")
+	List<ProductProjection> findProjectedPageAfter(@Param("after") final Integer after, final Pageable pageable);
+	
+	@Query(PROJECTION + "WHERE p.productId IN :productIds")
+	List<ProductProjection> findProjectedByProductIdIn(@Param("productIds") final Collection<Integer> productIds);
+	
+	@Query(PROJECTION + "WHERE c.categoryId = :categoryId AND p.productId > :after ORDER BY p.productId")
+	List<ProductProjection> findProjectedCategoryPageAfter(@Param("categoryId") final Integer categoryId, 
+			@Param("after") final Integer after, final Pageable pageable);
+	
+	@Query(PROJECTION + "WHERE c.categoryId IN "
+			+ "(SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId) "
+			+ "AND p.productId > :after ORDER BY p.productId")
+	List<ProductProjection> findProjectedSubtreePageAfter(@Param("categoryId") final Integer categoryId, 
+			@Param("after") final Integer after, final Pageable pageable);
+	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE))
+	@Query(PROJECTION + "ORDER BY p.productId")
+	Stream<ProductProjection> streamAllProjected();
 	
+	@QueryHints({
+			@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE), 
+			@QueryHint(name = HINT_READONLY, value = "true")})
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category")
+	Stream<Product> streamAll();
 	
 }
@@ -12,10 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.CategoryTreeDto;
+import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,9 +34,43 @@ public class CategoryResource {
 	private final CategoryService categoryService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		final int pageSize = KeysetPageHelper.limit(limit);
+		return ResponseEntity.ok(KeysetPageHelper.page(
+				this.categoryService.findAll(KeysetPageHelper.intCursor(after), pageSize + 1), 
+				pageSize, categoryDto -> String.valueOf(categoryDto.getCategoryId())));
+	}
+	
+	/**
+	 * The whole hierarchy, served from a snapshot rebuilt only after category writes.
+	 */
+	@GetMapping("/tree")
+	public ResponseEntity<DtoCollectionResponse<CategoryTreeDto>> findTree() {
+		log.info("*** CategoryTreeDto List, resource; fetch category tree *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findTree(), null, false));
+	}
+	
+	/**
+	 * Products filed directly under the category, or anywhere in its subtree when 
+	 * recursive, paged by product id.
+	 */
+	@GetMapping("/{categoryId}/products")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findProducts(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId, 
+			@RequestParam(name = "recursive", defaultValue = "false") final boolean recursive, 
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** ProductDto List, resource; fetch products of category *");
+		final int pageSize = KeysetPageHelper.limit(limit);
+		return ResponseEntity.ok(KeysetPageHelper.page(
+				this.categoryService.findProducts(Integer.parseInt(categoryId), recursive, 
+						KeysetPageHelper.intCursor(after), pageSize + 1), 
+				pageSize, productDto -> String.valueOf(productDto.getProductId())));
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -1,9 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +17,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.SuggestionDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.KeysetPageHelper;
+import com.selimhorri.app.helper.NdjsonStreamHelper;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +39,56 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductResource {
 	
 	private final ProductService productService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
 		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		final int pageSize = KeysetPageHelper.limit(limit);
+		return ResponseEntity.ok(KeysetPageHelper.page(
+				this.productService.findAll(KeysetPageHelper.intCursor(after), pageSize + 1), 
+				pageSize, productDto -> String.valueOf(productDto.getProductId())));
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> stream() {
+		log.info("*** ProductDto Stream, resource; stream all products *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(NdjsonStreamHelper.stream(this.objectMapper, this.productService::streamAll));
+	}
+	
+	/**
+	 * Ranked full-text search over title, sku and category; the cursor is the 
+	 * offset of the next page.
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> search(
+			@RequestParam("q") final String query, 
+			@RequestParam(name = "minPrice", required = false) final Double minPrice, 
+			@RequestParam(name = "maxPrice", required = false) final Double maxPrice, 
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** ProductDto List, resource; search products *");
+		final int pageSize = KeysetPageHelper.limit(limit);
+		final int offset = Math.max(0, Objects.requireNonNullElse(KeysetPageHelper.intCursor(after), 0));
+		return ResponseEntity.ok(KeysetPageHelper.page(
+				this.productService.search(query, minPrice, maxPrice, offset, pageSize + 1), 
+				pageSize, productDto -> String.valueOf(offset + pageSize)));
+	}
+	
+	/**
+	 * Search-as-you-type over product and category titles, most popular first.
+	 */
+	@GetMapping("/suggest")
+	public ResponseEntity<DtoCollectionResponse<SuggestionDto>> suggest(
+			@RequestParam("prefix") final String prefix, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** SuggestionDto List, resource; suggest titles by prefix *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(
+				this.productService.suggest(prefix, KeysetPageHelper.limit(limit)), null, false));
 	}
 	
 	@GetMapping("/{productId}")
@@ -81,6 +137,15 @@ public class ProductResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, ProductDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final Set<Integer> productIds) {
+		log.info("*** ProductDto Map, resource; fetch products by ids *");
+		return ResponseEntity.ok(this.productService.findAllByIds(productIds));
+	}
+	
 	
 	
 }
@@ -3,14 +3,19 @@ package com.selimhorri.app.service;
 import java.util.List;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.CategoryTreeDto;
+import com.selimhorri.app.dto.ProductDto;
 
 public interface CategoryService {
 	
 	List<CategoryDto> findAll();
+	List<CategoryDto> findAll(final Integer after, final int limit);
 	CategoryDto findById(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
 	CategoryDto update(final CategoryDto categoryDto);
 	CategoryDto update(final Integer categoryId, final CategoryDto categoryDto);
 	void deleteById(final Integer categoryId);
+	List<CategoryTreeDto> findTree();
+	List<ProductDto> findProducts(final Integer categoryId, final boolean recursive, final Integer after, final int limit);
 	
 }
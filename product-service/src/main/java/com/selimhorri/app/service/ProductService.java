@@ -1,16 +1,25 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.SuggestionDto;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	List<ProductDto> findAll(final Integer after, final int limit);
+	void streamAll(final Consumer<ProductDto> consumer);
 	ProductDto findById(final Integer productId);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
 	void deleteById(final Integer productId);
+	Map<Integer, ProductDto> findAllByIds(final Collection<Integer> productIds);
+	List<ProductDto> search(final String query, final Double minPrice, final Double maxPrice, final int offset, final int limit);
+	List<SuggestionDto> suggest(final String prefix, final int limit);
 	
 }
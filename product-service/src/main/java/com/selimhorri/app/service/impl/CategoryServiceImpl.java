@@ -1,17 +1,36 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.CategoryClosure;
+import com.selimhorri.app.domain.id.CategoryClosureId;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.CategoryTreeDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.exception.wrapper.CategoryCycleException;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.CategoryClosureRepository;
 import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.search.CategoryChangedEvent;
+import com.selimhorri.app.service.tree.CategoryTreeCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,8 +42,13 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final CategoryClosureRepository categoryClosureRepository;
+	private final ProductRepository productRepository;
+	private final CategoryTreeCache categoryTreeCache;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<CategoryDto> findAll() {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
 		return this.categoryRepository.findAll()
@@ -34,6 +58,16 @@ public class CategoryServiceImpl implements CategoryService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public List<CategoryDto> findAll(final Integer after, final int limit) {
+		log.info("*** CategoryDto List, service; fetch categorys after cursor *");
+		return this.categoryRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(CategoryMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
@@ -45,28 +79,111 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		final var saved = CategoryMappingHelper.map(this.store(CategoryMappingHelper.map(categoryDto)));
+		this.reindex(saved.getCategoryId());
+		return saved;
 	}
 	
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		final var updated = CategoryMappingHelper.map(this.store(CategoryMappingHelper.map(categoryDto)));
+		this.reindex(updated.getCategoryId());
+		return updated;
 	}
 	
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(this.findById(categoryId))));
+		final var updated = CategoryMappingHelper.map(this.store(CategoryMappingHelper.map(this.findById(categoryId))));
+		this.reindex(categoryId);
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
 		this.categoryRepository.deleteById(categoryId);
+		this.reindex(categoryId);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<CategoryTreeDto> findTree() {
+		log.info("*** CategoryTreeDto List, service; fetch category tree *");
+		return this.categoryTreeCache.get(() -> {
+			final Map<Integer, List<Category>> children = new HashMap<>();
+			this.categoryRepository.findAll().forEach(category -> children
+					.computeIfAbsent(parentIdOf(category), parentCategoryId -> new ArrayList<>())
+					.add(category));
+			return subtreesOf(null, children);
+		});
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<ProductDto> findProducts(final Integer categoryId, final boolean recursive, 
+			final Integer after, final int limit) {
+		log.info("*** ProductDto List, service; fetch products of category after cursor *");
+		if (!this.categoryRepository.existsById(categoryId))
+			throw new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId));
+		final int cursor = Objects.requireNonNullElse(after, 0);
+		final List<ProductProjection> products = (recursive) 
+				? this.productRepository.findProjectedSubtreePageAfter(categoryId, cursor, PageRequest.of(0, limit)) 
+				: this.productRepository.findProjectedCategoryPageAfter(categoryId, cursor, PageRequest.of(0, limit));
+		return products.stream()
+				.map(ProductMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Saves the category under its persisted parent and keeps the closure table in step: 
+	 * a new category gets its own row plus one per ancestor of its parent, a moved one 
+	 * has its subtree detached from the old ancestors and attached under the new ones.
+	 */
+	private Category store(final Category category) {
+		final Integer parentCategoryId = parentIdOf(category);
+		category.setParentCategory((parentCategoryId == null) ? null : this.categoryRepository.findById(parentCategoryId)
+				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", parentCategoryId))));
+		
+		final Integer categoryId = category.getCategoryId();
+		final boolean placed = categoryId != null 
+				&& this.categoryClosureRepository.existsById(new CategoryClosureId(categoryId, categoryId));
+		if (placed && parentCategoryId != null 
+				&& this.categoryClosureRepository.existsById(new CategoryClosureId(categoryId, parentCategoryId)))
+			throw new CategoryCycleException(String.format("Category with id: %d cannot be moved under its own subcategory %d", 
+					categoryId, parentCategoryId));
+		
+		final Category saved = this.categoryRepository.save(category);
+		if (!placed) {
+			this.categoryClosureRepository.saveAndFlush(new CategoryClosure(saved.getCategoryId(), saved.getCategoryId(), 0));
+			if (parentCategoryId != null)
+				this.categoryClosureRepository.attach(saved.getCategoryId(), parentCategoryId);
+		}
+		else if (!Objects.equals(this.categoryClosureRepository.findParentId(categoryId).orElse(null), parentCategoryId)) {
+			this.categoryClosureRepository.detach(this.categoryClosureRepository.findDescendantIds(categoryId));
+			if (parentCategoryId != null)
+				this.categoryClosureRepository.attach(categoryId, parentCategoryId);
+		}
+		return saved;
+	}
+	
+	private static Integer parentIdOf(final Category category) {
+		return (category.getParentCategory() == null) ? null : category.getParentCategory().getCategoryId();
+	}
+	
+	private static List<CategoryTreeDto> subtreesOf(final Integer parentCategoryId, 
+			final Map<Integer, List<Category>> children) {
+		return children.getOrDefault(parentCategoryId, List.of())
+				.stream()
+					.sorted(Comparator.comparing(Category::getCategoryId))
+					.map(category -> new CategoryTreeDto(category.getCategoryId(), category.getCategoryTitle(), 
+							category.getImageUrl(), subtreesOf(category.getCategoryId(), children)))
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	private void reindex(final Integer categoryId) {
+		this.applicationEventPublisher.publishEvent(new CategoryChangedEvent(Set.of(categoryId)));
 	}
 	
 	
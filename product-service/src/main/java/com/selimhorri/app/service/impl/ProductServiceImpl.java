@@ -1,17 +1,31 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.SuggestionDto;
+import com.selimhorri.app.dto.projection.ProductProjection;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
+import com.selimhorri.app.service.invalidation.CacheInvalidationEvent;
+import com.selimhorri.app.service.search.ProductChangedEvent;
+import com.selimhorri.app.service.search.ProductSearchIndex;
+import com.selimhorri.app.service.search.ProductSuggestIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,51 +37,140 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductSuggestIndex productSuggestIndex;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
-		return this.productRepository.findAll()
+		return this.productRepository.findAllProjected()
 				.stream()
 					.map(ProductMappingHelper::map)
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public List<ProductDto> findAll(final Integer after, final int limit) {
+		log.info("*** ProductDto List, service; fetch products after cursor *");
+		return this.productRepository.findProjectedPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Projections are not managed, so the persistence context stays empty however 
+	 * many rows go by.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(final Consumer<ProductDto> consumer) {
+		log.info("*** ProductDto Stream, service; stream all products *");
+		try (final Stream<ProductProjection> products = this.productRepository.streamAllProjected()) {
+			products.forEach(product -> consumer.accept(ProductMappingHelper.map(product)));
+		}
+	}
+	
 	@Override
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
-		return this.productRepository.findById(productId)
-				.map(ProductMappingHelper::map)
-				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
+		final var productDto = this.fetch(productId);
+		this.productSuggestIndex.recordView(productId);
+		return productDto;
 	}
 	
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
+		final var saved = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.reindex(saved.getProductId());
+		return saved;
 	}
 	
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
+		final var updated = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.evictRemote(updated.getProductId());
+		this.reindex(updated.getProductId());
+		return updated;
 	}
 	
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(this.findById(productId))));
+		final var updated = ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(this.fetch(productId))));
+		this.evictRemote(productId);
+		this.reindex(productId);
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer productId) {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
-				.map(this.findById(productId)));
+				.map(this.fetch(productId)));
+		this.evictRemote(productId);
+		this.reindex(productId);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto Map, service; fetch products by ids *");
+		if (productIds == null || productIds.isEmpty())
+			return Map.of();
+		return this.productRepository.findProjectedByProductIdIn(productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(ProductDto::getProductId, Function.identity(), (p1, p2) -> p1));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<ProductDto> search(final String query, final Double minPrice, final Double maxPrice, 
+			final int offset, final int limit) {
+		log.info("*** ProductDto List, service; search products *");
+		final List<Integer> productIds = this.productSearchIndex.search(query, minPrice, maxPrice, offset, limit);
+		final Map<Integer, ProductDto> products = this.findAllByIds(productIds);
+		return productIds.stream()
+				.map(products::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public List<SuggestionDto> suggest(final String prefix, final int limit) {
+		log.info("*** SuggestionDto List, service; suggest titles by prefix *");
+		return this.productSuggestIndex.suggest(prefix, limit)
+				.stream()
+					.map(suggestion -> SuggestionDto.builder()
+							.text(suggestion.getText())
+							.type(suggestion.getType().name())
+							.id(suggestion.getId())
+							.build())
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	private ProductDto fetch(final Integer productId) {
+		return this.productRepository.findById(productId)
+				.map(ProductMappingHelper::map)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
+	}
+	
+	private void evictRemote(final Integer productId) {
+		this.applicationEventPublisher.publishEvent(new CacheInvalidationEvent("products", Set.of(productId)));
+	}
+	
+	private void reindex(final Integer productId) {
+		this.applicationEventPublisher.publishEvent(new ProductChangedEvent(Set.of(productId)));
 	}
 	
 	
@@ -0,0 +1,26 @@
+package com.selimhorri.app.service.search;
+
+import java.util.Set;
+
+import lombok.Value;
+
+/**
+ * Categories saved, updated or deleted by a transaction; their suggestions and the 
+ * products filed under them are refreshed once it commits.
+ */
+@Value
+public class CategoryChangedEvent {
+	
+	Set<Integer> categoryIds;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,26 @@
+package com.selimhorri.app.service.search;
+
+import java.util.Set;
+
+import lombok.Value;
+
+/**
+ * Products saved, updated or deleted by a transaction; their index entries are 
+ * refreshed from the database once it commits.
+ */
+@Value
+public class ProductChangedEvent {
+	
+	Set<Integer> productIds;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,262 @@
+package com.selimhorri.app.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Value;
+
+/**
+ * In-memory inverted index over product title, sku and category title, ranked with 
+ * BM25 where each field contributes its term frequency times a boost. A query only 
+ * visits the postings of its own terms, so its cost follows the number of matching 
+ * products rather than the size of the catalog.
+ */
+@Component
+public class ProductSearchIndex {
+	
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+	private static final double TITLE_BOOST = 3.0;
+	private static final double SKU_BOOST = 2.0;
+	private static final double CATEGORY_BOOST = 1.0;
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+	private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final Comparator<Map.Entry<Integer, Double>> RANKING = 
+			Map.Entry.<Integer, Double>comparingByValue(Comparator.reverseOrder())
+					.thenComparing(Map.Entry.comparingByKey());
+	
+	private final Map<String, Map<Integer, Double>> postings = new HashMap<>();
+	private final Map<Integer, IndexedProduct> products = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private double totalLength;
+	
+	public void rebuild(final Collection<Document> documents) {
+		this.lock.writeLock().lock();
+		try {
+			this.postings.clear();
+			this.products.clear();
+			this.totalLength = 0;
+			documents.forEach(this::add);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void index(final Document document) {
+		this.lock.writeLock().lock();
+		try {
+			this.delete(document.getProductId());
+			this.add(document);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void remove(final Integer productId) {
+		this.lock.writeLock().lock();
+		try {
+			this.delete(productId);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.products.size();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Ids of the indexed products filed under any of the categories; a full scan, 
+	 * meant for the rare category write.
+	 */
+	public Set<Integer> productIdsIn(final Collection<Integer> categoryIds) {
+		this.lock.readLock().lock();
+		try {
+			return this.products.entrySet()
+					.stream()
+						.filter(product -> categoryIds.contains(product.getValue().getCategoryId()))
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toUnmodifiableSet());
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Ids of the products matching any query term, best first; a price bound is 
+	 * ignored when null. Only offset + limit candidates are kept while ranking.
+	 */
+	public List<Integer> search(final String query, final Double minPrice, final Double maxPrice, 
+			final int offset, final int limit) {
+		
+		final Set<String> terms = new LinkedHashSet<>(tokenize(query));
+		if (terms.isEmpty() || limit <= 0)
+			return List.of();
+		
+		this.lock.readLock().lock();
+		try {
+			final int productCount = this.products.size();
+			if (productCount == 0)
+				return List.of();
+			final double averageLength = this.totalLength / productCount;
+			
+			final Map<Integer, Double> scores = new HashMap<>();
+			for (final String term : terms) {
+				final Map<Integer, Double> posting = this.postings.get(term);
+				if (posting == null)
+					continue;
+				final double idf = Math.log(1 + (productCount - posting.size() + 0.5) / (posting.size() + 0.5));
+				posting.forEach((productId, frequency) -> {
+					final IndexedProduct product = this.products.get(productId);
+					if (!product.isPricedWithin(minPrice, maxPrice))
+						return;
+					final double saturation = frequency * (K1 + 1) 
+							/ (frequency + K1 * (1 - B + B * product.getLength() / averageLength));
+					scores.merge(productId, idf * saturation, Double::sum);
+				});
+			}
+			
+			final int keep = offset + limit;
+			final PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(RANKING.reversed());
+			for (final Map.Entry<Integer, Double> score : scores.entrySet()) {
+				best.offer(score);
+				if (best.size() > keep)
+					best.poll();
+			}
+			return best.stream()
+					.sorted(RANKING)
+					.skip(offset)
+					.map(Map.Entry::getKey)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Lower-cased, accent-free terms split on anything that is not a letter or a digit.
+	 */
+	public static List<String> tokenize(final String text) {
+		if (text == null || text.isBlank())
+			return List.of();
+		final String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+				.replaceAll("")
+				.toLowerCase();
+		return Arrays.stream(SEPARATORS.split(folded))
+				.filter(term -> !term.isEmpty())
+				.collect(Collectors.toList());
+	}
+	
+	private void add(final Document document) {
+		final Map<String, Double> frequencies = new HashMap<>();
+		double length = 0;
+		length += weigh(frequencies, tokenize(document.getProductTitle()), TITLE_BOOST);
+		length += weigh(frequencies, skuTerms(document.getSku()), SKU_BOOST);
+		length += weigh(frequencies, tokenize(document.getCategoryTitle()), CATEGORY_BOOST);
+		
+		frequencies.forEach((term, frequency) -> 
+				this.postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.getProductId(), frequency));
+		this.products.put(document.getProductId(), 
+				new IndexedProduct(document.getCategoryId(), document.getPriceUnit(), length, Set.copyOf(frequencies.keySet())));
+		this.totalLength += length;
+	}
+	
+	private void delete(final Integer productId) {
+		final IndexedProduct removed = this.products.remove(productId);
+		if (removed == null)
+			return;
+		removed.getTerms().forEach(term -> {
+			final Map<Integer, Double> posting = this.postings.get(term);
+			posting.remove(productId);
+			if (posting.isEmpty())
+				this.postings.remove(term);
+		});
+		this.totalLength -= removed.getLength();
+	}
+	
+	private static double weigh(final Map<String, Double> frequencies, final List<String> terms, final double boost) {
+		terms.forEach(term -> frequencies.merge(term, boost, Double::sum));
+		return terms.size() * boost;
+	}
+	
+	/**
+	 * A sku is searchable both whole and by its parts, e.g. ab-123 also as ab and 123.
+	 */
+	private static List<String> skuTerms(final String sku) {
+		final List<String> parts = tokenize(sku);
+		if (parts.size() <= 1)
+			return parts;
+		final List<String> terms = new ArrayList<>(parts);
+		terms.add(String.join("", parts));
+		return terms;
+	}
+	
+	@Value
+	public static class Document {
+		
+		Integer productId;
+		String productTitle;
+		String sku;
+		Integer categoryId;
+		String categoryTitle;
+		Double priceUnit;
+		
+	}
+	
+	@Value
+	private static class IndexedProduct {
+		
+		Integer categoryId;
+		Double priceUnit;
+		double length;
+		Set<String> terms;
+		
+		boolean isPricedWithin(final Double minPrice, final Double maxPrice) {
+			if (minPrice == null && maxPrice == null)
+				return true;
+			return this.priceUnit != null 
+					&& (minPrice == null || this.priceUnit >= minPrice) 
+					&& (maxPrice == null || this.priceUnit <= maxPrice);
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
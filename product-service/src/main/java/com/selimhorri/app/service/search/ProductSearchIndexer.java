@@ -0,0 +1,137 @@
+package com.selimhorri.app.service.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.search.ProductSearchIndex.Document;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the whole catalog into the search and suggest indexes at startup, then keeps 
+ * them current from committed product and category changes.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProductSearchIndexer {
+	
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductSuggestIndex productSuggestIndex;
+	private final EntityManager entityManager;
+	
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void rebuild() {
+		log.info("*** Void, indexer; build product search index *");
+		final List<Document> documents = new ArrayList<>();
+		final var rows = new AtomicInteger();
+		try (final Stream<Product> products = this.productRepository.streamAll()) {
+			products.forEach(product -> {
+				documents.add(documentOf(product));
+				if (rows.incrementAndGet() % AppConstant.STREAM_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			});
+		}
+		this.productSearchIndex.rebuild(documents);
+		this.productSuggestIndex.rebuild(documents, this.categoryRepository.findAll()
+				.stream()
+					.collect(Collectors.toMap(Category::getCategoryId, Category::getCategoryTitle)));
+		log.info("*** Void, indexer; indexed {} products *", documents.size());
+	}
+	
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void reindex(final ProductChangedEvent event) {
+		log.info("*** Void, indexer; reindex products {} *", event.getProductIds());
+		this.reindex(event.getProductIds(), this.productRepository.findAllByProductIdIn(event.getProductIds()));
+	}
+	
+	/**
+	 * A renamed or deleted category changes the documents of every product filed under 
+	 * it, so those are reindexed along with the category's own suggestion.
+	 */
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void reindex(final CategoryChangedEvent event) {
+		log.info("*** Void, indexer; reindex categories {} *", event.getCategoryIds());
+		final Map<Integer, Category> categories = this.categoryRepository.findAllById(event.getCategoryIds())
+				.stream()
+					.collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+		event.getCategoryIds().forEach(categoryId -> {
+			final Category category = categories.get(categoryId);
+			if (category == null)
+				this.productSuggestIndex.removeCategory(categoryId);
+			else
+				this.productSuggestIndex.putCategory(categoryId, category.getCategoryTitle());
+		});
+		
+		final List<Product> products = this.productRepository.findAllByCategoryIdIn(event.getCategoryIds());
+		final Set<Integer> productIds = new HashSet<>(this.productSearchIndex.productIdsIn(event.getCategoryIds()));
+		products.forEach(product -> productIds.add(product.getProductId()));
+		this.reindex(productIds, products);
+	}
+	
+	private void reindex(final Set<Integer> productIds, final List<Product> found) {
+		final Map<Integer, Product> products = found.stream()
+				.collect(Collectors.toMap(Product::getProductId, Function.identity(), (p1, p2) -> p1));
+		productIds.forEach(productId -> {
+			final Product product = products.get(productId);
+			if (product == null) {
+				this.productSearchIndex.remove(productId);
+				this.productSuggestIndex.removeProduct(productId);
+			}
+			else {
+				final Document document = documentOf(product);
+				this.productSearchIndex.index(document);
+				this.productSuggestIndex.putProduct(document);
+			}
+		});
+	}
+	
+	private static Document documentOf(final Product product) {
+		final Category category = product.getCategory();
+		return new Document(product.getProductId(), product.getProductTitle(), product.getSku(), 
+				(category == null) ? null : category.getCategoryId(), 
+				(category == null) ? null : category.getCategoryTitle(), 
+				product.getPriceUnit());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,531 @@
+package com.selimhorri.app.service.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.search.ProductSuggestProperties;
+import com.selimhorri.app.service.search.ProductSearchIndex.Document;
+
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Prefix index for search-as-you-type over product and category titles. Every word
+ * of a title starts a key in a trie whose nodes hold their children in sorted arrays
+ * and cache the k most popular suggestions beneath them, so a lookup walks the prefix
+ * and copies one short list however many titles share it. A write only re-ranks the
+ * nodes on the paths of the keys it touches.
+ *
+ * Products rank by how often they were fetched, categories by how many products they
+ * hold. Views are counted lock-free and applied in batches by {@link #flushViews()}.
+ */
+@Component
+public class ProductSuggestIndex {
+	
+	public enum Type { PRODUCT, CATEGORY }
+	
+	private static final char[] NO_LABELS = new char[0];
+	private static final Node[] NO_CHILDREN = new Node[0];
+	private static final Entry[] NO_ENTRIES = new Entry[0];
+	private static final long STRING_BYTES = 24;
+	private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::getPopularity).reversed()
+			.thenComparing(Entry::getText)
+			.thenComparing(Entry::getType)
+			.thenComparing(Entry::getId);
+	
+	private final int topK;
+	private final int maxKeyLength;
+	private final Map<Integer, Entry> products = new HashMap<>();
+	private final Map<Integer, Entry> categories = new HashMap<>();
+	private final Map<Integer, Integer> productCategories = new HashMap<>();
+	private final Map<Integer, Integer> categorySizes = new HashMap<>();
+	private final Map<Integer, LongAdder> pendingViews = new ConcurrentHashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private Node root = new Node();
+	
+	public ProductSuggestIndex(final ProductSuggestProperties productSuggestProperties) {
+		this.topK = productSuggestProperties.getTopK();
+		this.maxKeyLength = productSuggestProperties.getMaxKeyLength();
+	}
+	
+	/**
+	 * Replaces the whole index; view counts already gathered are kept. Nodes are
+	 * ranked once, bottom-up, after every title is in.
+	 */
+	public void rebuild(final Collection<Document> documents, final Map<Integer, String> categoryTitles) {
+		this.lock.writeLock().lock();
+		try {
+			final Map<Integer, Long> views = new HashMap<>();
+			this.products.forEach((productId, entry) -> views.put(productId, entry.getPopularity()));
+			this.root = new Node();
+			this.products.clear();
+			this.categories.clear();
+			this.productCategories.clear();
+			this.categorySizes.clear();
+			
+			documents.forEach(document -> {
+				final Entry entry = new Entry(Type.PRODUCT, document.getProductId(), document.getProductTitle());
+				entry.popularity = views.getOrDefault(document.getProductId(), 0L);
+				this.products.put(entry.getId(), entry);
+				this.link(entry, false);
+				if (document.getCategoryId() != null) {
+					this.productCategories.put(document.getProductId(), document.getCategoryId());
+					this.categorySizes.merge(document.getCategoryId(), 1, Integer::sum);
+				}
+			});
+			categoryTitles.forEach((categoryId, categoryTitle) -> {
+				final Entry entry = new Entry(Type.CATEGORY, categoryId, categoryTitle);
+				entry.popularity = this.categorySizes.getOrDefault(categoryId, 0);
+				this.categories.put(categoryId, entry);
+				this.link(entry, false);
+			});
+			this.rankAll(this.root);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void putProduct(final Document document) {
+		this.lock.writeLock().lock();
+		try {
+			final Entry previous = this.products.remove(document.getProductId());
+			final Integer previousCategoryId = this.productCategories.remove(document.getProductId());
+			final Entry entry = new Entry(Type.PRODUCT, document.getProductId(), document.getProductTitle());
+			if (previous != null) {
+				entry.popularity = previous.getPopularity();
+				this.unlink(previous);
+			}
+			this.products.put(entry.getId(), entry);
+			this.link(entry, true);
+			if (document.getCategoryId() != null)
+				this.productCategories.put(document.getProductId(), document.getCategoryId());
+			if (!Objects.equals(previousCategoryId, document.getCategoryId())) {
+				this.resizeCategory(previousCategoryId, -1);
+				this.resizeCategory(document.getCategoryId(), 1);
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void removeProduct(final Integer productId) {
+		this.lock.writeLock().lock();
+		try {
+			this.pendingViews.remove(productId);
+			final Entry previous = this.products.remove(productId);
+			if (previous != null)
+				this.unlink(previous);
+			this.resizeCategory(this.productCategories.remove(productId), -1);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void putCategory(final Integer categoryId, final String categoryTitle) {
+		this.lock.writeLock().lock();
+		try {
+			final Entry previous = this.categories.remove(categoryId);
+			if (previous != null)
+				this.unlink(previous);
+			final Entry entry = new Entry(Type.CATEGORY, categoryId, categoryTitle);
+			entry.popularity = this.categorySizes.getOrDefault(categoryId, 0);
+			this.categories.put(categoryId, entry);
+			this.link(entry, true);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void removeCategory(final Integer categoryId) {
+		this.lock.writeLock().lock();
+		try {
+			final Entry previous = this.categories.remove(categoryId);
+			if (previous != null)
+				this.unlink(previous);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void recordView(final Integer productId) {
+		this.pendingViews.computeIfAbsent(productId, key -> new LongAdder()).increment();
+	}
+	
+	/**
+	 * Adds the views counted since the last flush to product popularity and re-ranks
+	 * their paths, taking the write lock once per batch rather than once per view.
+	 */
+	public void flushViews() {
+		final Map<Integer, Long> views = new HashMap<>();
+		this.pendingViews.forEach((productId, counter) -> {
+			final long count = counter.sumThenReset();
+			if (count > 0)
+				views.put(productId, count);
+		});
+		if (views.isEmpty())
+			return;
+		
+		this.lock.writeLock().lock();
+		try {
+			views.forEach((productId, count) -> {
+				final Entry entry = this.products.get(productId);
+				if (entry == null)
+					return;
+				entry.popularity += count;
+				this.rerank(entry);
+			});
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Most popular titles having a word that starts with the prefix, at most top-k; a
+	 * trailing separator in the prefix means its last word is complete.
+	 */
+	public List<Suggestion> suggest(final String prefix, final int limit) {
+		final List<String> terms = ProductSearchIndex.tokenize(prefix);
+		if (terms.isEmpty() || limit <= 0)
+			return List.of();
+		String key = String.join(" ", terms);
+		if (!Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1)))
+			key += " ";
+		key = this.truncate(key);
+		
+		this.lock.readLock().lock();
+		try {
+			Node node = this.root;
+			for (int i = 0; i < key.length() && node != null; i++)
+				node = node.child(key.charAt(i));
+			if (node == null)
+				return List.of();
+			return Arrays.stream(node.top)
+					.limit(limit)
+					.map(entry -> new Suggestion(entry.getType(), entry.getId(), entry.getText(), entry.getPopularity()))
+					.collect(Collectors.toUnmodifiableList());
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.products.size() + this.categories.size();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	public int nodeCount() {
+		this.lock.readLock().lock();
+		try {
+			int nodes = 0;
+			final Deque<Node> pending = new ArrayDeque<>(List.of(this.root));
+			while (!pending.isEmpty()) {
+				final Node node = pending.pop();
+				nodes++;
+				Arrays.stream(node.children).forEach(pending::push);
+			}
+			return nodes;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Approximate heap held by the trie and its titles, assuming compressed
+	 * references and Latin-1 strings.
+	 */
+	public long estimatedBytes() {
+		this.lock.readLock().lock();
+		try {
+			long bytes = 0;
+			final Deque<Node> pending = new ArrayDeque<>(List.of(this.root));
+			while (!pending.isEmpty()) {
+				final Node node = pending.pop();
+				bytes += Node.SHALLOW_BYTES
+						+ arrayBytes(node.labels.length, Character.BYTES)
+						+ arrayBytes(node.children.length, Integer.BYTES)
+						+ arrayBytes(node.terminals.length, Integer.BYTES)
+						+ arrayBytes(node.top.length, Integer.BYTES);
+				Arrays.stream(node.children).forEach(pending::push);
+			}
+			for (final Entry entry : this.products.values())
+				bytes += Entry.SHALLOW_BYTES + STRING_BYTES + arrayBytes(entry.getText().length(), Byte.BYTES);
+			for (final Entry entry : this.categories.values())
+				bytes += Entry.SHALLOW_BYTES + STRING_BYTES + arrayBytes(entry.getText().length(), Byte.BYTES);
+			return bytes;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	private static long arrayBytes(final int length, final int width) {
+		return (16 + (long) length * width + 7) & ~7L;
+	}
+	
+	/**
+	 * One key per word of the title running to its end, so "lenovo thinkpad" is found
+	 * from "len" as well as from "thi"; keys are capped at the configured length.
+	 */
+	private Set<String> keysOf(final String text) {
+		final List<String> terms = ProductSearchIndex.tokenize(text);
+		final Set<String> keys = new LinkedHashSet<>();
+		for (int i = 0; i < terms.size(); i++)
+			keys.add(this.truncate(String.join(" ", terms.subList(i, terms.size()))));
+		return keys;
+	}
+	
+	private String truncate(final String key) {
+		return (key.length() > this.maxKeyLength) ? key.substring(0, this.maxKeyLength) : key;
+	}
+	
+	private void link(final Entry entry, final boolean rank) {
+		for (final String key : this.keysOf(entry.getText())) {
+			final Node[] path = new Node[key.length() + 1];
+			path[0] = this.root;
+			for (int i = 0; i < key.length(); i++)
+				path[i + 1] = path[i].childOrCreate(key.charAt(i));
+			path[key.length()].terminals = append(path[key.length()].terminals, entry);
+			if (rank)
+				this.rank(path, key.length());
+		}
+	}
+	
+	private void unlink(final Entry entry) {
+		for (final String key : this.keysOf(entry.getText())) {
+			final Node[] path = new Node[key.length() + 1];
+			path[0] = this.root;
+			for (int i = 0; i < key.length(); i++)
+				path[i + 1] = path[i].child(key.charAt(i));
+			path[key.length()].terminals = without(path[key.length()].terminals, entry);
+			
+			int depth = key.length();
+			while (depth > 0 && path[depth].isEmpty()) {
+				path[depth - 1].removeChild(key.charAt(depth - 1));
+				depth--;
+			}
+			this.rank(path, depth);
+		}
+	}
+	
+	private void rerank(final Entry entry) {
+		for (final String key : this.keysOf(entry.getText())) {
+			final Node[] path = new Node[key.length() + 1];
+			path[0] = this.root;
+			for (int i = 0; i < key.length(); i++)
+				path[i + 1] = path[i].child(key.charAt(i));
+			this.rank(path, key.length());
+		}
+	}
+	
+	private void resizeCategory(final Integer categoryId, final int delta) {
+		if (categoryId == null)
+			return;
+		final int size = this.categorySizes.merge(categoryId, delta, Integer::sum);
+		if (size <= 0)
+			this.categorySizes.remove(categoryId);
+		final Entry category = this.categories.get(categoryId);
+		if (category != null) {
+			category.popularity = Math.max(size, 0);
+			this.rerank(category);
+		}
+	}
+	
+	private void rank(final Node[] path, final int depth) {
+		for (int i = depth; i >= 0; i--)
+			path[i].rank(this.topK);
+	}
+	
+	private void rankAll(final Node node) {
+		for (final Node child : node.children)
+			this.rankAll(child);
+		node.rank(this.topK);
+	}
+	
+	private static Entry[] append(final Entry[] entries, final Entry entry) {
+		final Entry[] appended = Arrays.copyOf(entries, entries.length + 1);
+		appended[entries.length] = entry;
+		return appended;
+	}
+	
+	private static Entry[] without(final Entry[] entries, final Entry entry) {
+		for (int i = 0; i < entries.length; i++) {
+			if (entries[i] == entry) {
+				if (entries.length == 1)
+					return NO_ENTRIES;
+				final Entry[] remaining = new Entry[entries.length - 1];
+				System.arraycopy(entries, 0, remaining, 0, i);
+				System.arraycopy(entries, i + 1, remaining, i, entries.length - i - 1);
+				return remaining;
+			}
+		}
+		return entries;
+	}
+	
+	@Value
+	public static class Suggestion {
+		
+		Type type;
+		Integer id;
+		String text;
+		long popularity;
+		
+	}
+	
+	/**
+	 * A product or category title; popularity only changes under the write lock.
+	 */
+	@Getter
+	private static class Entry {
+		
+		static final long SHALLOW_BYTES = 32;
+		
+		private final Type type;
+		private final Integer id;
+		private final String text;
+		private long popularity;
+		
+		Entry(final Type type, final Integer id, final String text) {
+			this.type = type;
+			this.id = id;
+			this.text = Objects.requireNonNullElse(text, "");
+		}
+		
+	}
+	
+	private static class Node {
+		
+		static final long SHALLOW_BYTES = 32;
+		
+		private char[] labels = NO_LABELS;
+		private Node[] children = NO_CHILDREN;
+		private Entry[] terminals = NO_ENTRIES;
+		private Entry[] top = NO_ENTRIES;
+		
+		Node child(final char label) {
+			final int index = Arrays.binarySearch(this.labels, label);
+			return (index >= 0) ? this.children[index] : null;
+		}
+		
+		Node childOrCreate(final char label) {
+			final int index = Arrays.binarySearch(this.labels, label);
+			if (index >= 0)
+				return this.children[index];
+			final int insertion = -index - 1;
+			final Node child = new Node();
+			final char[] labels = new char[this.labels.length + 1];
+			final Node[] children = new Node[this.children.length + 1];
+			System.arraycopy(this.labels, 0, labels, 0, insertion);
+			System.arraycopy(this.children, 0, children, 0, insertion);
+			labels[insertion] = label;
+			children[insertion] = child;
+			System.arraycopy(this.labels, insertion, labels, insertion + 1, this.labels.length - insertion);
+			System.arraycopy(this.children, insertion, children, insertion + 1, this.children.length - insertion);
+			this.labels = labels;
+			this.children = children;
+			return child;
+		}
+		
+		void removeChild(final char label) {
+			final int index = Arrays.binarySearch(this.labels, label);
+			if (index < 0)
+				return;
+			if (this.labels.length == 1) {
+				this.labels = NO_LABELS;
+				this.children = NO_CHILDREN;
+				return;
+			}
+			final char[] labels = new char[this.labels.length - 1];
+			final Node[] children = new Node[this.children.length - 1];
+			System.arraycopy(this.labels, 0, labels, 0, index);
+			System.arraycopy(this.children, 0, children, 0, index);
+			System.arraycopy(this.labels, index + 1, labels, index, this.labels.length - index - 1);
+			System.arraycopy(this.children, index + 1, children, index, this.children.length - index - 1);
+			this.labels = labels;
+			this.children = children;
+		}
+		
+		boolean isEmpty() {
+			return this.terminals.length == 0 && this.children.length == 0;
+		}
+		
+		/**
+		 * Keeps the k best of the entries ending here and of each child's own top-k;
+		 * a title reachable through several children is counted once.
+		 */
+		void rank(final int k) {
+			final List<Entry> best = new ArrayList<>(k + 1);
+			for (final Entry entry : this.terminals)
+				offer(best, entry, k);
+			for (final Node child : this.children)
+				for (final Entry entry : child.top)
+					if (!offer(best, entry, k))
+						break;
+			this.top = best.isEmpty() ? NO_ENTRIES : best.toArray(NO_ENTRIES);
+		}
+		
+		/**
+		 * Inserts in rank order; false only when the entry ranks below a full list,
+		 * which also rules out every lower ranked entry of the same child.
+		 */
+		private static boolean offer(final List<Entry> best, final Entry entry, final int k) {
+			int position = best.size();
+			for (int i = 0; i < best.size(); i++) {
+				final Entry current = best.get(i);
+				if (current == entry)
+					return true;
+				if (position == best.size() && RANKING.compare(entry, current) < 0)
+					position = i;
+			}
+			if (position == k)
+				return false;
+			best.add(position, entry);
+			if (best.size() > k)
+				best.remove(k);
+			return true;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
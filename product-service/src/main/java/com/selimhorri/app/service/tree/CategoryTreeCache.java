@@ -0,0 +1,69 @@
+package com.selimhorri.app.service.tree;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.dto.CategoryTreeDto;
+import com.selimhorri.app.service.search.CategoryChangedEvent;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the last built category tree until a committed category write bumps the 
+ * generation. A snapshot is only served while its generation is current, so one 
+ * loaded concurrently with a write is never served after that write commits.
+ */
+@Component
+@Slf4j
+public class CategoryTreeCache {
+	
+	private final AtomicLong generation = new AtomicLong();
+	private volatile Snapshot snapshot;
+	
+	public List<CategoryTreeDto> get(final Supplier<List<CategoryTreeDto>> loader) {
+		final Snapshot current = this.snapshot;
+		if (current != null && current.getGeneration() == this.generation.get())
+			return current.getTree();
+		synchronized (this) {
+			final long loading = this.generation.get();
+			if (this.snapshot != null && this.snapshot.getGeneration() == loading)
+				return this.snapshot.getTree();
+			log.info("*** Void, cache; build category tree snapshot *");
+			final List<CategoryTreeDto> tree = loader.get();
+			this.snapshot = new Snapshot(loading, tree);
+			return tree;
+		}
+	}
+	
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void invalidate(final CategoryChangedEvent event) {
+		this.generation.incrementAndGet();
+	}
+	
+	@Value
+	private static class Snapshot {
+		
+		long generation;
+		List<CategoryTreeDto> tree;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,21 @@
+
+CREATE TABLE category_closure (
+	ancestor_id INT(11) NOT NULL,
+	descendant_id INT(11) NOT NULL,
+	depth INT(11) NOT NULL,
+	PRIMARY KEY (ancestor_id, descendant_id),
+	CONSTRAINT fk9_assign FOREIGN KEY (ancestor_id) REFERENCES categories (category_id) ON DELETE CASCADE,
+	CONSTRAINT fk10_assign FOREIGN KEY (descendant_id) REFERENCES categories (category_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_category_closure_descendant ON category_closure (descendant_id, depth);
+
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+	SELECT category_id, category_id, 0 FROM categories
+	UNION ALL
+	SELECT p.ancestor_id, c.category_id, p.depth + 1
+	FROM paths p
+	JOIN categories c ON c.parent_category_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM paths;
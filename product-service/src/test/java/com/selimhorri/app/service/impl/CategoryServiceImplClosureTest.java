@@ -0,0 +1,198 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.exception.wrapper.CategoryCycleException;
+import com.selimhorri.app.repository.CategoryClosureRepository;
+import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.tree.CategoryTreeCache;
+
+/**
+ * Pruebas de integracion para el mantenimiento de category_closure en CategoryServiceImpl
+ * Valida las filas de la tabla de cierre al crear y mover categorias, el rechazo de ciclos,
+ * el backfill recursivo de V7 y el listado recursivo de productos por subarbol
+ */
+@DataJpaTest
+@Import({ CategoryServiceImpl.class, CategoryTreeCache.class })
+class CategoryServiceImplClosureTest {
+
+    private static final String BACKFILL_MIGRATION = "db/migration/V7__create_category_closure_table.sql";
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    /**
+     * Prueba 1: Verificar que una categoria nueva recibe su propia fila y una por cada ancestro
+     */
+    @Test
+    void testSave_ShouldLinkNewCategoryToEveryAncestor() {
+        // Given
+        Integer root = create("Root", null);
+        Integer child = create("Child", root);
+
+        // When
+        Integer leaf = create("Leaf", child);
+
+        // Then
+        assertEquals(Set.of(
+                path(root, root, 0), path(child, child, 0), path(leaf, leaf, 0),
+                path(root, child, 1), path(child, leaf, 1), path(root, leaf, 2)), closureOf(root, child, leaf));
+    }
+
+    /**
+     * Prueba 2: Verificar que mover una categoria desprende su subarbol de los ancestros viejos y lo cuelga de los nuevos
+     */
+    @Test
+    void testUpdate_ShouldMoveSubtreeUnderNewParent() {
+        // Given
+        Integer root = create("Root", null);
+        Integer child = create("Child", root);
+        Integer leaf = create("Leaf", child);
+        Integer otherRoot = create("Other root", null);
+
+        // When
+        move(child, otherRoot);
+
+        // Then
+        assertEquals(Set.of(
+                path(root, root, 0), path(child, child, 0), path(leaf, leaf, 0), path(otherRoot, otherRoot, 0),
+                path(child, leaf, 1), path(otherRoot, child, 1), path(otherRoot, leaf, 2)),
+                closureOf(root, child, leaf, otherRoot));
+    }
+
+    /**
+     * Prueba 3: Verificar que mover una categoria bajo su propio descendiente lanza CategoryCycleException sin tocar el arbol
+     */
+    @Test
+    void testUpdate_ShouldRejectMoveUnderOwnDescendant() {
+        // Given
+        Integer root = create("Root", null);
+        Integer child = create("Child", root);
+        Integer leaf = create("Leaf", child);
+        Set<String> before = closureOf(root, child, leaf);
+
+        // When / Then
+        assertThrows(CategoryCycleException.class, () -> move(root, leaf));
+        assertEquals(before, closureOf(root, child, leaf));
+    }
+
+    /**
+     * Prueba 4: Verificar que el backfill recursivo de V7 reconstruye las mismas filas que mantiene el servicio
+     */
+    @Test
+    void testBackfill_ShouldRebuildClosureMaintainedByService() throws IOException {
+        // Given
+        Integer root = create("Root", null);
+        Integer child = create("Child", root);
+        Integer leaf = create("Leaf", child);
+        Integer otherRoot = create("Other root", null);
+        move(child, otherRoot);
+        Set<String> maintained = closureOf(root, child, leaf, otherRoot);
+
+        // When
+        entityManager.getEntityManager().createNativeQuery("DELETE FROM category_closure").executeUpdate();
+        entityManager.getEntityManager().createNativeQuery(backfillStatement()).executeUpdate();
+
+        // Then
+        assertEquals(maintained, closureOf(root, child, leaf, otherRoot));
+    }
+
+    /**
+     * Prueba 5: Verificar que el listado recursivo devuelve los productos de todo el subarbol y el directo solo los propios
+     */
+    @Test
+    void testFindProducts_ShouldListWholeSubtreeWhenRecursive() {
+        // Given
+        Integer root = create("Root", null);
+        Integer child = create("Child", root);
+        Integer leaf = create("Leaf", child);
+        Integer otherRoot = create("Other root", null);
+        Integer inRoot = persistProduct(root);
+        Integer inLeaf = persistProduct(leaf);
+        persistProduct(otherRoot);
+
+        // When
+        List<ProductDto> recursive = categoryService.findProducts(root, true, null, 100);
+        List<ProductDto> direct = categoryService.findProducts(root, false, null, 100);
+
+        // Then
+        assertEquals(List.of(inRoot, inLeaf), productIdsOf(recursive));
+        assertEquals(List.of(inRoot), productIdsOf(direct));
+    }
+
+    private Integer create(String title, Integer parentCategoryId) {
+        return categoryService.save(CategoryDto.builder()
+                .categoryTitle(title)
+                .parentCategoryDto(CategoryDto.builder().categoryId(parentCategoryId).build())
+                .build()).getCategoryId();
+    }
+
+    private void move(Integer categoryId, Integer parentCategoryId) {
+        categoryService.update(CategoryDto.builder()
+                .categoryId(categoryId)
+                .categoryTitle("Moved")
+                .parentCategoryDto(CategoryDto.builder().categoryId(parentCategoryId).build())
+                .build());
+    }
+
+    private Integer persistProduct(Integer categoryId) {
+        return entityManager.persist(Product.builder()
+                .productTitle("Product in " + categoryId)
+                .sku("SKU-" + categoryId)
+                .priceUnit(10.0)
+                .quantity(1)
+                .category(entityManager.find(Category.class, categoryId))
+                .build()).getProductId();
+    }
+
+    private Set<String> closureOf(Integer... categoryIds) {
+        Set<Integer> ids = Set.of(categoryIds);
+        entityManager.flush();
+        entityManager.clear();
+        return categoryClosureRepository.findAll().stream()
+                .filter(closure -> ids.contains(closure.getDescendantId()))
+                .map(closure -> path(closure.getAncestorId(), closure.getDescendantId(), closure.getDepth()))
+                .collect(Collectors.toSet());
+    }
+
+    private static String path(Integer ancestorId, Integer descendantId, Integer depth) {
+        return ancestorId + ">" + descendantId + "@" + depth;
+    }
+
+    private static List<Integer> productIdsOf(List<ProductDto> productDtos) {
+        return productDtos.stream().map(ProductDto::getProductId).collect(Collectors.toList());
+    }
+
+    /**
+     * The INSERT of the migration, run again on a tree built through the service.
+     */
+    private static String backfillStatement() throws IOException {
+        String migration = new String(new ClassPathResource(BACKFILL_MIGRATION).getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8);
+        return migration.substring(migration.indexOf("INSERT INTO category_closure")).trim().replaceAll(";$", "");
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.ProductService;
+import com.selimhorri.app.service.search.ProductSearchIndex;
+import com.selimhorri.app.service.search.ProductSuggestIndex;
+import com.selimhorri.app.service.tree.CategoryTreeCache;
+
+/**
+ * Pruebas de regresion para ProductServiceImpl y CategoryServiceImpl
+ * Valida que los listados de productos ejecutan un numero constante de sentencias SQL
+ * sin importar cuantos productos ni cuantas cadenas de categorias tenga el catalogo
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ ProductServiceImpl.class, CategoryServiceImpl.class, CategoryTreeCache.class })
+class ProductServiceImplStatementCountTest {
+
+    @MockBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockBean
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private final List<Integer> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Prueba 1: Verificar que listar todos los productos es una sola sentencia con catalogo pequeno y grande
+     */
+    @Test
+    void testFindAll_ShouldRunOneStatementAsCatalogGrows() {
+        // Given
+        seed(5);
+        long small = statementsOf(() -> productService.findAll());
+
+        // When
+        seed(50);
+        long large = statementsOf(() -> productService.findAll());
+
+        // Then
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    /**
+     * Prueba 2: Verificar que la pagina, el lote por ids y el stream no crecen con el catalogo
+     */
+    @Test
+    void testPagedBatchAndStream_ShouldRunConstantStatements() {
+        // Given
+        seed(5);
+        long smallPage = statementsOf(() -> productService.findAll(null, 100));
+        long smallBatch = statementsOf(() -> productService.findAllByIds(productIds));
+        long smallStream = statementsOf(() -> productService.streamAll(productDto -> {}));
+
+        // When
+        seed(50);
+        long largePage = statementsOf(() -> productService.findAll(null, 100));
+        long largeBatch = statementsOf(() -> productService.findAllByIds(productIds));
+        long largeStream = statementsOf(() -> productService.streamAll(productDto -> {}));
+
+        // Then
+        assertEquals(1, smallPage);
+        assertEquals(smallPage, largePage);
+        assertEquals(1, smallBatch);
+        assertEquals(smallBatch, largeBatch);
+        assertEquals(1, smallStream);
+        assertEquals(smallStream, largeStream);
+    }
+
+    /**
+     * Prueba 3: Verificar que los productos de una categoria cuestan la comprobacion de existencia mas una pagina
+     */
+    @Test
+    void testFindProductsOfCategory_ShouldRunConstantStatements() {
+        // Given
+        Integer root = categoryService.save(CategoryDto.builder().categoryTitle("Root").build()).getCategoryId();
+        Integer child = categoryService.save(CategoryDto.builder()
+                .categoryTitle("Child")
+                .parentCategoryDto(CategoryDto.builder().categoryId(root).build())
+                .build()).getCategoryId();
+        seedUnder(child, 5);
+        long smallSubtree = statementsOf(() -> categoryService.findProducts(root, true, null, 100));
+        long smallDirect = statementsOf(() -> categoryService.findProducts(child, false, null, 100));
+
+        // When
+        seedUnder(child, 50);
+        long largeSubtree = statementsOf(() -> categoryService.findProducts(root, true, null, 100));
+        long largeDirect = statementsOf(() -> categoryService.findProducts(child, false, null, 100));
+
+        // Then
+        assertEquals(2, smallSubtree);
+        assertEquals(smallSubtree, largeSubtree);
+        assertEquals(2, smallDirect);
+        assertEquals(smallDirect, largeDirect);
+    }
+
+    /**
+     * Each product sits at the bottom of its own three-level category chain, the
+     * shape that made eager parent loading cost one select per ancestor.
+     */
+    private void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            Category root = entityManager.persist(Category.builder().categoryTitle("Root").build());
+            Category child = entityManager.persist(Category.builder().categoryTitle("Child").parentCategory(root).build());
+            Category leaf = entityManager.persist(Category.builder().categoryTitle("Leaf").parentCategory(child).build());
+            persistProduct(leaf);
+        }
+    }
+
+    private void seedUnder(Integer categoryId, int count) {
+        Category category = entityManager.find(Category.class, categoryId);
+        for (int i = 0; i < count; i++)
+            persistProduct(category);
+    }
+
+    private void persistProduct(Category category) {
+        Product product = entityManager.persist(Product.builder()
+                .productTitle("Product " + productIds.size())
+                .sku("SKU-" + productIds.size())
+                .priceUnit(10.0)
+                .quantity(1)
+                .category(category)
+                .build());
+        productIds.add(product.getProductId());
+    }
+
+    private long statementsOf(Runnable request) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        request.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+}
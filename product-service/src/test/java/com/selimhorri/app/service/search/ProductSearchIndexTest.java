@@ -0,0 +1,84 @@
+package com.selimhorri.app.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.service.search.ProductSearchIndex.Document;
+
+/**
+ * Pruebas unitarias para ProductSearchIndex
+ * Valida el ranking, la paginacion y las actualizaciones incrementales del indice
+ */
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex();
+        productSearchIndex.rebuild(List.of(
+                new Document(1, "Asus Laptop", "AS-100", null, "Computer", 900.0),
+                new Document(2, "Lenovo ThinkPad", "LN-200", null, "Laptop", 1200.0),
+                new Document(3, "Canon Camera", "CN-300", null, "Photo", 450.0),
+                new Document(4, "Nikon Cámara", "NK-400", null, "Photo", 520.0)));
+    }
+
+    /**
+     * Prueba 1: Verificar que una coincidencia en el titulo pesa mas que en la categoria
+     */
+    @Test
+    void testSearch_ShouldRankTitleMatchesFirst() {
+        // When
+        List<Integer> productIds = productSearchIndex.search("laptop", null, null, 0, 10);
+
+        // Then
+        assertEquals(List.of(1, 2), productIds);
+    }
+
+    /**
+     * Prueba 2: Verificar que los acentos, mayusculas y sku se normalizan
+     */
+    @Test
+    void testSearch_ShouldMatchFoldedTermsAndSku() {
+        // Then
+        assertEquals(List.of(4), productSearchIndex.search("CAMARA", null, null, 0, 10));
+        assertEquals(List.of(3), productSearchIndex.search("cn-300", null, null, 0, 10));
+        assertEquals(List.of(3), productSearchIndex.search("cn300", null, null, 0, 10));
+    }
+
+    /**
+     * Prueba 3: Verificar el filtro de precio y la paginacion por offset
+     */
+    @Test
+    void testSearch_ShouldFilterByPriceAndPage() {
+        // Then
+        assertEquals(List.of(3), productSearchIndex.search("photo", 400.0, 500.0, 0, 10));
+        List<Integer> firstPage = productSearchIndex.search("photo", null, null, 0, 1);
+        List<Integer> secondPage = productSearchIndex.search("photo", null, null, 1, 1);
+        assertEquals(1, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertNotEquals(firstPage, secondPage);
+        assertTrue(productSearchIndex.search("photo", null, null, 2, 1).isEmpty());
+    }
+
+    /**
+     * Prueba 4: Verificar que reindexar y eliminar actualizan los postings
+     */
+    @Test
+    void testIndexAndRemove_ShouldUpdateResults() {
+        // When
+        productSearchIndex.index(new Document(3, "Canon Laptop Bag", "CN-300", null, "Accessories", 45.0));
+        productSearchIndex.remove(1);
+
+        // Then
+        assertEquals(List.of(3, 2), productSearchIndex.search("laptop", null, null, 0, 10));
+        assertTrue(productSearchIndex.search("camera", null, null, 0, 10).isEmpty());
+        assertTrue(productSearchIndex.search("asus", null, null, 0, 10).isEmpty());
+        assertEquals(3, productSearchIndex.size());
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.selimhorri.app.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.search.ProductSuggestProperties;
+import com.selimhorri.app.service.search.ProductSearchIndex.Document;
+import com.selimhorri.app.service.search.ProductSuggestIndex.Suggestion;
+import com.selimhorri.app.service.search.ProductSuggestIndex.Type;
+
+/**
+ * Pruebas unitarias para ProductSuggestIndex
+ * Valida la busqueda por prefijo, el ranking por popularidad y las actualizaciones incrementales del trie
+ */
+class ProductSuggestIndexTest {
+
+    private ProductSuggestIndex productSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        ProductSuggestProperties properties = new ProductSuggestProperties();
+        properties.setTopK(3);
+        productSuggestIndex = new ProductSuggestIndex(properties);
+        productSuggestIndex.rebuild(List.of(
+                new Document(1, "Asus Laptop", "AS-100", 10, "Computer", 900.0),
+                new Document(2, "Lenovo ThinkPad", "LN-200", 11, "Laptop", 1200.0),
+                new Document(3, "Laptop Bag", "BG-300", 11, "Laptop", 45.0),
+                new Document(4, "Canon Cámara", "CN-400", 12, "Photo", 450.0)),
+                Map.of(10, "Computer", 11, "Laptop", 12, "Photo"));
+    }
+
+    /**
+     * Prueba 1: Verificar que cualquier palabra del titulo es un prefijo valido y que se normaliza
+     */
+    @Test
+    void testSuggest_ShouldMatchAnyWordOfTitle() {
+        // Then
+        assertEquals(List.of("Lenovo ThinkPad"), texts(productSuggestIndex.suggest("THINK", 10)));
+        assertEquals(List.of("Canon Cámara"), texts(productSuggestIndex.suggest("cama", 10)));
+        assertEquals(List.of("Asus Laptop"), texts(productSuggestIndex.suggest("asus lap", 10)));
+        assertTrue(productSuggestIndex.suggest("xyz", 10).isEmpty());
+        assertTrue(productSuggestIndex.suggest("  ", 10).isEmpty());
+    }
+
+    /**
+     * Prueba 2: Verificar que las categorias se ordenan por numero de productos y los productos por visitas
+     */
+    @Test
+    void testSuggest_ShouldRankByPopularityAndKeepTopK() {
+        // Given
+        productSuggestIndex.recordView(1);
+        productSuggestIndex.recordView(3);
+        productSuggestIndex.recordView(3);
+        productSuggestIndex.flushViews();
+
+        // When
+        List<Suggestion> suggestions = productSuggestIndex.suggest("lap", 10);
+
+        // Then
+        assertEquals(3, suggestions.size());
+        assertEquals(Type.CATEGORY, suggestions.get(0).getType());
+        assertEquals(List.of("Laptop", "Laptop Bag", "Asus Laptop"), texts(suggestions));
+    }
+
+    /**
+     * Prueba 3: Verificar que renombrar y eliminar un producto actualiza el trie y la popularidad de su categoria
+     */
+    @Test
+    void testPutAndRemoveProduct_ShouldUpdateSuggestions() {
+        // When
+        productSuggestIndex.putProduct(new Document(3, "Camera Strap", "BG-300", 12, "Photo", 15.0));
+        productSuggestIndex.removeProduct(1);
+
+        // Then
+        assertTrue(productSuggestIndex.suggest("bag", 10).isEmpty());
+        assertEquals(List.of("Camera Strap", "Canon Cámara"), texts(productSuggestIndex.suggest("cam", 10)));
+        assertEquals(List.of("Laptop"), texts(productSuggestIndex.suggest("laptop", 10)));
+        assertEquals(1, productSuggestIndex.suggest("laptop", 10).get(0).getPopularity());
+        assertEquals(2, productSuggestIndex.suggest("photo", 10).get(0).getPopularity());
+    }
+
+    /**
+     * Prueba 4: Verificar que eliminar entradas poda los nodos y reduce la huella de memoria
+     */
+    @Test
+    void testRemove_ShouldPruneNodes() {
+        // Given
+        int nodes = productSuggestIndex.nodeCount();
+        long bytes = productSuggestIndex.estimatedBytes();
+
+        // When
+        productSuggestIndex.removeProduct(4);
+        productSuggestIndex.removeCategory(12);
+
+        // Then
+        assertTrue(productSuggestIndex.nodeCount() < nodes);
+        assertTrue(productSuggestIndex.estimatedBytes() < bytes);
+        assertTrue(productSuggestIndex.suggest("canon", 10).isEmpty());
+        assertTrue(productSuggestIndex.suggest("photo", 10).isEmpty());
+        assertEquals(5, productSuggestIndex.size());
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).collect(Collectors.toList());
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.selimhorri.app.business.auth.controller;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,27 +15,42 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.config.throttle.LoginThrottleProperties;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/authenticate")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @Slf4j
 @RequiredArgsConstructor
 public class AuthenticationController {
 	
+	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
 	private final AuthenticationService authenticationService;
+	private final LoginThrottleProperties loginThrottleProperties;
 	
 	@PostMapping
 	public ResponseEntity<AuthenticationResponse> authenticate(
 			@RequestBody 
 			@NotNull(message = "") 
-			@Valid final AuthenticationRequest authenticationRequest) {
+			@Valid final AuthenticationRequest authenticationRequest, 
+			final HttpServletRequest request) {
 		log.info("**Authentication controller, proceed with the request*\n");
-		return ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest));
+		return ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest, this.clientIp(request)));
+	}
+	
+	@PostMapping("/refresh")
+	public ResponseEntity<AuthenticationResponse> refresh(
+			@RequestBody 
+			@NotNull(message = "") 
+			@Valid final RefreshTokenRequest refreshTokenRequest) {
+		log.info("**Authentication controller, proceed with the refresh request*\n");
+		return ResponseEntity.ok(this.authenticationService.refresh(refreshTokenRequest));
 	}
 	
 	@GetMapping("/jwt/{jwt}")
@@ -41,6 +59,19 @@ public class AuthenticationController {
 		return ResponseEntity.ok(this.authenticationService.authenticate(jwt));
 	}
 	
+	/**
+	 * Last X-Forwarded-For hop, the one appended by api-gateway, since earlier hops 
+	 * are supplied by the client; the header is ignored unless the peer is a trusted proxy.
+	 */
+	private String clientIp(final HttpServletRequest request) {
+		final String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+		if (forwardedFor == null || forwardedFor.isBlank() 
+				|| !this.loginThrottleProperties.trustsProxy(request.getRemoteAddr()))
+			return request.getRemoteAddr();
+		return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+	}
+	
+	
 	
 	
 }
@@ -0,0 +1,43 @@
+package com.selimhorri.app.business.auth.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.auth.model.response.JwkSetResponse;
+import com.selimhorri.app.business.auth.service.JwkSetService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+public class JwkSetController {
+	
+	private final JwkSetService jwkSetService;
+	
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<JwkSetResponse> getJwkSet() {
+		log.info("**JwkSet controller, publish token verification keys*\n");
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+				.body(this.jwkSetService.getJwkSet());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
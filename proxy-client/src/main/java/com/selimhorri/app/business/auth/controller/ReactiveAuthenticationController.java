@@ -0,0 +1,104 @@
+package com.selimhorri.app.business.auth.controller;
+
+import java.net.InetSocketAddress;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
+import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
+import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.config.throttle.LoginThrottleProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux variant of {@link AuthenticationController}; the authentication service 
+ * blocks on user-service and password hashing, so it runs off the event loop.
+ */
+@RestController
+@RequestMapping("/api/authenticate")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveAuthenticationController {
+	
+	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+	private final AuthenticationService authenticationService;
+	private final LoginThrottleProperties loginThrottleProperties;
+	
+	@PostMapping
+	public Mono<ResponseEntity<AuthenticationResponse>> authenticate(
+			@RequestBody 
+			@NotNull(message = "") 
+			@Valid final AuthenticationRequest authenticationRequest, 
+			final ServerHttpRequest request) {
+		log.info("**Authentication controller, proceed with the request*\n");
+		final String clientIp = this.clientIp(request);
+		return Mono.fromCallable(() -> this.authenticationService.authenticate(authenticationRequest, clientIp))
+				.subscribeOn(Schedulers.boundedElastic())
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping("/refresh")
+	public Mono<ResponseEntity<AuthenticationResponse>> refresh(
+			@RequestBody 
+			@NotNull(message = "") 
+			@Valid final RefreshTokenRequest refreshTokenRequest) {
+		log.info("**Authentication controller, proceed with the refresh request*\n");
+		return Mono.fromCallable(() -> this.authenticationService.refresh(refreshTokenRequest))
+				.subscribeOn(Schedulers.boundedElastic())
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/jwt/{jwt}")
+	public Mono<ResponseEntity<Boolean>> authenticate(@PathVariable("jwt") final String jwt) {
+		log.info("**Authentication controller, proceed with the request*\n");
+		return Mono.fromCallable(() -> this.authenticationService.authenticate(jwt))
+				.subscribeOn(Schedulers.boundedElastic())
+				.map(ResponseEntity::ok);
+	}
+	
+	/**
+	 * Last X-Forwarded-For hop, the one appended by api-gateway; the header is ignored 
+	 * unless the peer is a trusted proxy.
+	 */
+	private String clientIp(final ServerHttpRequest request) {
+		final InetSocketAddress remoteAddress = request.getRemoteAddress();
+		final String peerAddress = (remoteAddress == null || remoteAddress.getAddress() == null) 
+				? null 
+				: remoteAddress.getAddress().getHostAddress();
+		final String forwardedFor = request.getHeaders().getFirst(X_FORWARDED_FOR);
+		if (forwardedFor != null && !forwardedFor.isBlank() && this.loginThrottleProperties.trustsProxy(peerAddress))
+			return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+		return peerAddress;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,34 @@
+package com.selimhorri.app.business.auth.model.response;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class JsonWebKey implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private String kty;
+	private String kid;
+	private String use;
+	private String alg;
+	private String n;
+	private String e;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,30 @@
+package com.selimhorri.app.business.auth.model.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class JwkSetResponse implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private List<JsonWebKey> keys;
+	
+}
+
+
+
+
+
+
+
+
+
+
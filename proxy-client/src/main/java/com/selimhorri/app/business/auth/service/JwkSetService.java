@@ -0,0 +1,9 @@
+package com.selimhorri.app.business.auth.service;
+
+import com.selimhorri.app.business.auth.model.response.JwkSetResponse;
+
+public interface JwkSetService {
+	
+	JwkSetResponse getJwkSet();
+	
+}
@@ -0,0 +1,11 @@
+package com.selimhorri.app.business.auth.service;
+
+public interface LoginAttemptService {
+	
+	void checkAllowed(final String username, final String clientIp);
+	void loginSucceeded(final String username, final String clientIp);
+	void loginFailed(final String username, final String clientIp);
+	void unknownUsername(final String username, final String clientIp);
+	void forgetUnknownUsernames();
+	
+}
@@ -1,17 +1,28 @@
 package com.selimhorri.app.business.auth.service.impl;
 
+import java.util.function.Function;
+
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.business.auth.service.LoginAttemptService;
+import com.selimhorri.app.config.jwt.JwtProperties;
 import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
 import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,22 +34,34 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 	private final AuthenticationManager authenticationManager;
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final JwtProperties jwtProperties;
+	private final LoginAttemptService loginAttemptService;
 	
 	@Override
-	public AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest) {
+	public AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest, final String clientIp) {
 		
 		log.info("** AuthenticationResponse, authenticate user service*\n");
 		
+		final String username = authenticationRequest.getUsername();
+		this.loginAttemptService.checkAllowed(username, clientIp);
+		
+		final Authentication authentication;
 		try {
-			this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
-					authenticationRequest.getUsername(), authenticationRequest.getPassword()));
+			authentication = this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+					username, authenticationRequest.getPassword()));
+		}
+		catch (UsernameNotFoundException e) {
+			this.loginAttemptService.unknownUsername(username, clientIp);
+			throw new IllegalAuthenticationCredentialsException("#### Bad credentials! ####");
 		}
 		catch (BadCredentialsException e) {
+			this.loginAttemptService.loginFailed(username, clientIp);
 			throw new IllegalAuthenticationCredentialsException("#### Bad credentials! ####");
 		}
+		this.loginAttemptService.loginSucceeded(username, clientIp);
 		
-		return new AuthenticationResponse(this.jwtService.generateToken(this.userDetailsService
-				.loadUserByUsername(authenticationRequest.getUsername())));
+		// the provider already loaded the user to check the password, no second lookup
+		return this.issueTokens((UserDetails) authentication.getPrincipal());
 	}
 	
 	@Override
@@ -46,6 +69,37 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 		return null;
 	}
 	
+	@Override
+	public AuthenticationResponse refresh(final RefreshTokenRequest refreshTokenRequest) {
+		
+		log.info("** AuthenticationResponse, refresh tokens service*\n");
+		
+		final Claims claims;
+		try {
+			claims = this.jwtService.extractClaims(refreshTokenRequest.getRefreshToken(), Function.identity());
+		}
+		catch (JwtException e) {
+			throw new IllegalAuthenticationCredentialsException("#### Invalid refresh token! ####");
+		}
+		
+		if (!JwtUtil.REFRESH_TOKEN_TYPE.equals(claims.get(JwtUtil.CLAIM_TOKEN_TYPE)))
+			throw new IllegalAuthenticationCredentialsException("#### Invalid refresh token! ####");
+		
+		final UserDetails userDetails = this.userDetailsService.loadUserByUsername(claims.getSubject());
+		if (!userDetails.isEnabled() || !userDetails.isAccountNonLocked())
+			throw new IllegalAuthenticationCredentialsException("#### Account is disabled or locked! ####");
+		
+		return this.issueTokens(userDetails);
+	}
+	
+	private AuthenticationResponse issueTokens(final UserDetails userDetails) {
+		return AuthenticationResponse.builder()
+				.jwtToken(this.jwtService.generateToken(userDetails))
+				.refreshToken(this.jwtService.generateRefreshToken(userDetails))
+				.expiresIn(this.jwtProperties.getAccessTokenTtl().toSeconds())
+				.build();
+	}
+	
 	
 	
 }
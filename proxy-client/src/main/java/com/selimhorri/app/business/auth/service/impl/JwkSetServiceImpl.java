@@ -0,0 +1,67 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import java.math.BigInteger;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.auth.model.response.JsonWebKey;
+import com.selimhorri.app.business.auth.model.response.JwkSetResponse;
+import com.selimhorri.app.business.auth.service.JwkSetService;
+import com.selimhorri.app.jwt.key.JwtKeyRing;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JwkSetServiceImpl implements JwkSetService {
+	
+	private final JwtKeyRing jwtKeyRing;
+	
+	@Override
+	public JwkSetResponse getJwkSet() {
+		log.info("**JwkSetResponse, publish token verification keys*\n");
+		return JwkSetResponse.builder()
+				.keys(this.jwtKeyRing.getPublicKeys().entrySet().stream()
+						.map(entry -> JsonWebKey.builder()
+								.kty(entry.getValue().getAlgorithm())
+								.kid(entry.getKey())
+								.use("sig")
+								.alg(SignatureAlgorithm.RS256.getValue())
+								.n(base64Url(entry.getValue().getModulus()))
+								.e(base64Url(entry.getValue().getPublicExponent()))
+								.build())
+						.collect(Collectors.toUnmodifiableList()))
+				.build();
+	}
+	
+	/**
+	 * RFC 7518 unsigned big-endian encoding, without the sign byte BigInteger may add.
+	 */
+	private static String base64Url(final BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			final byte[] unsigned = new byte[bytes.length - 1];
+			System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+			bytes = unsigned;
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,181 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.service.LoginAttemptService;
+import com.selimhorri.app.config.throttle.LoginThrottleProperties;
+import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+import com.selimhorri.app.exception.wrapper.LoginThrottledException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory login throttle, checked before any user-service lookup or BCrypt work. 
+ * Failures are counted per username and per client IP in a sliding window; crossing 
+ * the limit blocks the key for a backoff that doubles with every further lockout. 
+ * Usernames that user-service does not know are remembered for a short while and 
+ * rejected straight away, until user-service reports a created or changed account.
+ */
+@Service
+@Slf4j
+public class LoginAttemptServiceImpl implements LoginAttemptService {
+	
+	private static final String USERNAME_KEY_PREFIX = "username:";
+	private static final String IP_KEY_PREFIX = "ip:";
+	private static final String BLOCKED_METER_NAME = "login.throttle.blocked";
+	
+	private final LoginThrottleProperties loginThrottleProperties;
+	private final Object[] lockStripes;
+	private final Cache<String, SlidingWindow> slidingWindows;
+	private final Cache<String, Boolean> unknownUsernames;
+	private final Counter blockedByUsername;
+	private final Counter blockedByIp;
+	private final Counter blockedUnknownUsername;
+	
+	public LoginAttemptServiceImpl(final LoginThrottleProperties loginThrottleProperties, final MeterRegistry meterRegistry) {
+		this.loginThrottleProperties = loginThrottleProperties;
+		this.lockStripes = new Object[loginThrottleProperties.getLockStripes()];
+		for (int i = 0; i < this.lockStripes.length; i++)
+			this.lockStripes[i] = new Object();
+		this.slidingWindows = Caffeine.newBuilder()
+				.maximumSize(loginThrottleProperties.getMaxTrackedKeys())
+				.expireAfterAccess(loginThrottleProperties.getWindow().plus(loginThrottleProperties.getMaxBackoff()))
+				.build();
+		this.unknownUsernames = Caffeine.newBuilder()
+				.maximumSize(loginThrottleProperties.getMaxUnknownUsernames())
+				.expireAfterWrite(loginThrottleProperties.getUnknownUsernameTtl())
+				.build();
+		this.blockedByUsername = meterRegistry.counter(BLOCKED_METER_NAME, "reason", "username");
+		this.blockedByIp = meterRegistry.counter(BLOCKED_METER_NAME, "reason", "ip");
+		this.blockedUnknownUsername = meterRegistry.counter(BLOCKED_METER_NAME, "reason", "unknown-username");
+	}
+	
+	@Override
+	public void checkAllowed(final String username, final String clientIp) {
+		
+		this.checkNotBlocked(IP_KEY_PREFIX + clientIp, this.blockedByIp);
+		
+		if (this.unknownUsernames.getIfPresent(username) != null) {
+			this.blockedUnknownUsername.increment();
+			this.recordFailure(IP_KEY_PREFIX + clientIp, this.loginThrottleProperties.getMaxFailuresPerIp());
+			throw new IllegalAuthenticationCredentialsException("#### Bad credentials! ####");
+		}
+		
+		this.checkNotBlocked(USERNAME_KEY_PREFIX + username, this.blockedByUsername);
+	}
+	
+	@Override
+	public void loginSucceeded(final String username, final String clientIp) {
+		this.slidingWindows.invalidate(USERNAME_KEY_PREFIX + username);
+	}
+	
+	@Override
+	public void loginFailed(final String username, final String clientIp) {
+		this.recordFailure(USERNAME_KEY_PREFIX + username, this.loginThrottleProperties.getMaxFailuresPerUsername());
+		this.recordFailure(IP_KEY_PREFIX + clientIp, this.loginThrottleProperties.getMaxFailuresPerIp());
+	}
+	
+	@Override
+	public void unknownUsername(final String username, final String clientIp) {
+		log.info("**Void, remember unknown username for {}*\n", this.loginThrottleProperties.getUnknownUsernameTtl());
+		this.unknownUsernames.put(username, Boolean.TRUE);
+		this.recordFailure(IP_KEY_PREFIX + clientIp, this.loginThrottleProperties.getMaxFailuresPerIp());
+	}
+	
+	@Override
+	public void forgetUnknownUsernames() {
+		log.info("**Void, forget remembered unknown usernames*\n");
+		this.unknownUsernames.invalidateAll();
+	}
+	
+	private void checkNotBlocked(final String key, final Counter blockedCounter) {
+		final long now = System.currentTimeMillis();
+		final long blockedUntil;
+		synchronized (this.lockStripe(key)) {
+			final SlidingWindow slidingWindow = this.slidingWindows.getIfPresent(key);
+			blockedUntil = (slidingWindow == null) ? 0L : slidingWindow.blockedUntil;
+		}
+		if (blockedUntil > now) {
+			blockedCounter.increment();
+			throw new LoginThrottledException("Too many failed login attempts, please retry later", 
+					Math.max(1L, (blockedUntil - now + 999L) / 1000L));
+		}
+	}
+	
+	private void recordFailure(final String key, final int maxFailures) {
+		final long now = System.currentTimeMillis();
+		final long windowMillis = this.loginThrottleProperties.getWindow().toMillis();
+		synchronized (this.lockStripe(key)) {
+			final SlidingWindow slidingWindow = this.slidingWindows.get(key, k -> new SlidingWindow(now));
+			slidingWindow.slide(now, windowMillis);
+			slidingWindow.currentCount++;
+			if (slidingWindow.estimate(now, windowMillis) >= maxFailures) {
+				final long backoffMillis = Math.min(
+						this.loginThrottleProperties.getInitialBackoff().toMillis() << Math.min(slidingWindow.lockouts, 20), 
+						this.loginThrottleProperties.getMaxBackoff().toMillis());
+				slidingWindow.lockouts++;
+				slidingWindow.blockedUntil = now + backoffMillis;
+				slidingWindow.previousCount = 0;
+				slidingWindow.currentCount = 0;
+			}
+		}
+	}
+	
+	private Object lockStripe(final String key) {
+		return this.lockStripes[Math.floorMod(key.hashCode(), this.lockStripes.length)];
+	}
+	
+	/**
+	 * Sliding window counter: the previous fixed window is weighted by how much of it 
+	 * still overlaps the sliding window, so a key costs a few fields instead of a 
+	 * timestamp per attempt. Guarded by the lock stripe of its key.
+	 */
+	private static final class SlidingWindow {
+		
+		private long windowStart;
+		private int previousCount;
+		private int currentCount;
+		private int lockouts;
+		private long blockedUntil;
+		
+		private SlidingWindow(final long now) {
+			this.windowStart = now;
+		}
+		
+		private void slide(final long now, final long windowMillis) {
+			final long elapsedWindows = (now - this.windowStart) / windowMillis;
+			if (elapsedWindows == 1) {
+				this.previousCount = this.currentCount;
+				this.currentCount = 0;
+			}
+			else if (elapsedWindows > 1) {
+				this.previousCount = 0;
+				this.currentCount = 0;
+			}
+			this.windowStart += elapsedWindows * windowMillis;
+		}
+		
+		private double estimate(final long now, final long windowMillis) {
+			final double previousWeight = 1.0d - (double) (now - this.windowStart) / windowMillis;
+			return this.previousCount * previousWeight + this.currentCount;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,46 @@
+package com.selimhorri.app.business.cache.controller;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.auth.service.LoginAttemptService;
+import com.selimhorri.app.business.cache.model.CacheInvalidationDto;
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/cache/invalidations")
+@RequiredArgsConstructor
+public class CacheInvalidationController {
+	
+	private final LoginAttemptService loginAttemptService;
+	private final CacheInvalidationProperties cacheInvalidationProperties;
+	
+	@PostMapping
+	public ResponseEntity<Boolean> invalidate(
+			@RequestHeader(name = CacheInvalidationProperties.TOKEN_HEADER, required = false) final String token, 
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CacheInvalidationDto cacheInvalidationDto) {
+		if (!this.cacheInvalidationProperties.accepts(token))
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(false);
+		if (!"credentials".equals(cacheInvalidationDto.getCacheName()))
+			return ResponseEntity.ok(false);
+		// a created or renamed account may be one of the usernames remembered as unknown
+		this.loginAttemptService.forgetUnknownUsernames();
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
+
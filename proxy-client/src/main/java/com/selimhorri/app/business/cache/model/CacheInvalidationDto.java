@@ -0,0 +1,29 @@
+package com.selimhorri.app.business.cache.model;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CacheInvalidationDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@NotBlank(message = "Field must not be blank!")
+	private String cacheName;
+	
+	@NotNull(message = "Field must not be NULL!")
+	private Set<Integer> ids;
+	
+}
+
@@ -0,0 +1,62 @@
+package com.selimhorri.app.business.order.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.user.model.UserDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderDetailsDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("order")
+	private OrderDto orderDto;
+	
+	@JsonProperty("cart")
+	@JsonInclude(Include.NON_NULL)
+	private CartDto cartDto;
+	
+	@JsonProperty("user")
+	@JsonInclude(Include.NON_NULL)
+	private UserDto userDto;
+	
+	@JsonProperty("payments")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<PaymentDto> paymentDtos;
+	
+	@JsonProperty("orderItems")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<OrderItemDto> orderItemDtos;
+	
+	/**
+	 * Sections left out because their service failed or missed the deadline.
+	 */
+	@JsonInclude(Include.NON_EMPTY)
+	private List<String> missing;
+	
+}
+
+
+
+
+
+
+
+
+
+
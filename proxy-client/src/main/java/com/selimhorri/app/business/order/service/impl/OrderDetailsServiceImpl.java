@@ -0,0 +1,99 @@
+package com.selimhorri.app.business.order.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDetailsDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.order.service.OrderDetailsService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.user.model.UserDto;
+import com.selimhorri.app.business.user.service.UserClientService;
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the order page in one call. Payments and order items only need the order id, 
+ * so they start right away; cart and user start as soon as the order names them. 
+ * The order itself is mandatory, any other section that fails or misses the shared 
+ * deadline is listed in {@link OrderDetailsDto#getMissing()} instead.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderDetailsServiceImpl implements OrderDetailsService {
+	
+	private final OrderClientService orderClientService;
+	private final CartClientService cartClientService;
+	private final UserClientService userClientService;
+	private final PaymentClientService paymentClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final EnrichmentExecutor enrichmentExecutor;
+	
+	@Override
+	public OrderDetailsDto findById(final String orderId) {
+		
+		log.info("**OrderDetailsDto, fetch order details by order id*\n");
+		
+		final long deadline = this.enrichmentExecutor.deadline();
+		final CompletableFuture<Collection<PaymentDto>> payments = this.enrichmentExecutor.submit(() -> 
+				this.paymentClientService.findAllByOrderId(orderId).getBody().getCollection());
+		final CompletableFuture<Collection<OrderItemDto>> orderItems = this.enrichmentExecutor.submit(() -> 
+				this.orderItemClientService.findAllByOrderId(orderId).getBody().getCollection());
+		
+		final OrderDto orderDto = this.orderClientService.findById(orderId).getBody();
+		final CartDto orderCartDto = orderDto.getCartDto();
+		final CompletableFuture<CartDto> cart = (orderCartDto == null || orderCartDto.getCartId() == null) 
+				? CompletableFuture.completedFuture(null) 
+				: this.enrichmentExecutor.submit(() -> 
+						this.cartClientService.findById(String.valueOf(orderCartDto.getCartId())).getBody());
+		final CompletableFuture<UserDto> user = (orderCartDto == null || orderCartDto.getUserId() == null) 
+				? CompletableFuture.completedFuture(null) 
+				: this.enrichmentExecutor.submit(() -> 
+						this.userClientService.findById(String.valueOf(orderCartDto.getUserId())).getBody());
+		
+		final List<String> missing = new ArrayList<>();
+		return OrderDetailsDto.builder()
+				.orderDto(orderDto)
+				.cartDto(this.await(cart, deadline, "cart", missing))
+				.userDto(this.await(user, deadline, "user", missing))
+				.paymentDtos(this.await(payments, deadline, "payments", missing))
+				.orderItemDtos(this.await(orderItems, deadline, "orderItems", missing))
+				.missing(missing)
+				.build();
+	}
+	
+	private <T> T await(final CompletableFuture<T> section, final long deadline, final String name, final List<String> missing) {
+		final Optional<T> result = this.enrichmentExecutor.await(section, deadline, name);
+		// a timed out section is cancelled, so both failure and timeout end up exceptional
+		if (!section.isDone() || section.isCompletedExceptionally())
+			missing.add(name);
+		return result.orElse(null);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
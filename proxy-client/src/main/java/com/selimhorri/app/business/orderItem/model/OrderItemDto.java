@@ -1,6 +1,7 @@
 package com.selimhorri.app.business.orderItem.model;
 
 import java.io.Serializable;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -31,6 +32,9 @@ public class OrderItemDto implements Serializable {
 	@JsonInclude(Include.NON_NULL)
 	private OrderDto orderDto;
 	
+	@JsonInclude(Include.NON_EMPTY)
+	private Set<String> missingEnrichments;
+	
 }
 
 
@@ -0,0 +1,38 @@
+package com.selimhorri.app.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+@Data
+public class CacheInvalidationProperties {
+	
+	public static final String TOKEN_HEADER = "X-Cache-Invalidation-Token";
+	
+	/**
+	 * Secret shared between publishers and subscribers, expected along with 
+	 * every invalidation. Left blank, no invalidation is accepted.
+	 */
+	private String token;
+	
+	public boolean accepts(final String token) {
+		return this.token != null && !this.token.isBlank() && token != null 
+				&& MessageDigest.isEqual(this.token.getBytes(StandardCharsets.UTF_8), 
+						token.getBytes(StandardCharsets.UTF_8));
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,85 @@
+package com.selimhorri.app.config.encoder;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.selimhorri.app.exception.wrapper.PasswordHashingSaturatedException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs password verification on a dedicated, bounded pool so that a login storm 
+ * can only burn that pool's threads; once its queue is full, logins fail fast with 
+ * {@link PasswordHashingSaturatedException} instead of piling up on Tomcat threads.
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+	
+	private final PasswordEncoder delegate;
+	@Getter
+	private final ThreadPoolExecutor passwordHashingExecutor;
+	private final Duration verifyTimeout;
+	
+	@Override
+	public String encode(final CharSequence rawPassword) {
+		return this.delegate.encode(rawPassword);
+	}
+	
+	@Override
+	public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+		
+		final Future<Boolean> matches;
+		try {
+			matches = this.passwordHashingExecutor.submit(() -> this.delegate.matches(rawPassword, encodedPassword));
+		}
+		catch (RejectedExecutionException e) {
+			throw new PasswordHashingSaturatedException("Too many concurrent logins, please retry later", e);
+		}
+		
+		try {
+			return matches.get(this.verifyTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			matches.cancel(true);
+			throw new PasswordHashingSaturatedException("Too many concurrent logins, please retry later", e);
+		}
+		catch (InterruptedException e) {
+			matches.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+	
+	@Override
+	public boolean upgradeEncoding(final String encodedPassword) {
+		return this.delegate.upgradeEncoding(encodedPassword);
+	}
+	
+	public void shutdown() {
+		this.passwordHashingExecutor.shutdown();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,16 +1,48 @@
 package com.selimhorri.app.config.encoder;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 
 @Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 public class EncoderConfig {
 	
+	/**
+	 * The hashing pool is owned by the encoder rather than exposed as an Executor bean, 
+	 * which would otherwise replace Boot's default applicationTaskExecutor.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public BoundedPasswordEncoder getPasswordEncoder(final PasswordHashingProperties passwordHashingProperties) {
+		final var passwordHashingExecutor = new ThreadPoolExecutor(
+				passwordHashingProperties.getPoolSize(), 
+				passwordHashingProperties.getPoolSize(), 
+				0L, TimeUnit.MILLISECONDS, 
+				new ArrayBlockingQueue<>(passwordHashingProperties.getQueueCapacity()), 
+				new CustomizableThreadFactory("password-hashing-"), 
+				new ThreadPoolExecutor.AbortPolicy());
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor, 
+				passwordHashingProperties.getVerifyTimeout());
+	}
+	
+	/**
+	 * Publishes executor.queued, executor.active and executor.queue.remaining tagged 
+	 * name=password-hashing.
+	 */
 	@Bean
-	public PasswordEncoder getPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+	public MeterBinder passwordHashingExecutorMetricsBean(final BoundedPasswordEncoder boundedPasswordEncoder) {
+		return new ExecutorServiceMetrics(boundedPasswordEncoder.getPasswordHashingExecutor(), 
+				"password-hashing", Tags.empty());
 	}
 	
 	
@@ -24,3 +56,5 @@ public class EncoderConfig {
 
 
 
+
+
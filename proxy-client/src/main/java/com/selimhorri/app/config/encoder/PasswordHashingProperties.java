@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.encoder;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.password-hashing")
+@Data
+public class PasswordHashingProperties {
+	
+	private int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+	private int queueCapacity = 64;
+	private Duration verifyTimeout = Duration.ofSeconds(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,82 @@
+package com.selimhorri.app.config.feign;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerProperties;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Pooled Apache transport for the Feign clients, separate from the RestTemplate pool so 
+ * that both can be sized and observed on their own; pool limits come from feign.httpclient, 
+ * connect and read timeouts per client from feign.client.config.
+ */
+@Configuration
+public class FeignTransportConfig {
+	
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager feignConnectionManagerBean(final FeignHttpClientProperties feignHttpClientProperties) {
+		final var connectionManager = new PoolingHttpClientConnectionManager(
+				feignHttpClientProperties.getTimeToLive(), feignHttpClientProperties.getTimeToLiveUnit());
+		connectionManager.setMaxTotal(feignHttpClientProperties.getMaxConnections());
+		connectionManager.setDefaultMaxPerRoute(feignHttpClientProperties.getMaxConnectionsPerRoute());
+		return connectionManager;
+	}
+	
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient feignHttpClientBean(
+			@Qualifier("feignConnectionManagerBean") final PoolingHttpClientConnectionManager feignConnectionManagerBean, 
+			final FeignHttpClientProperties feignHttpClientProperties) {
+		// responses are gzip-decoded by the client itself, which also advertises Accept-Encoding
+		return HttpClients.custom()
+				.setConnectionManager(feignConnectionManagerBean)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout(feignHttpClientProperties.getConnectionTimeout())
+						.setRedirectsEnabled(feignHttpClientProperties.isFollowRedirects())
+						.build())
+				.evictExpiredConnections()
+				.disableCookieManagement()
+				.build();
+	}
+	
+	@Bean
+	public MeterBinder feignConnectionManagerMetricsBean(
+			@Qualifier("feignConnectionManagerBean") final PoolingHttpClientConnectionManager feignConnectionManagerBean) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManagerBean, "feign");
+	}
+	
+	@Bean
+	public Client feignClient(@Qualifier("feignHttpClientBean") final CloseableHttpClient feignHttpClientBean, final MeterRegistry meterRegistry, 
+			final LoadBalancerClient loadBalancerClient, final LoadBalancerProperties loadBalancerProperties, 
+			final LoadBalancerClientFactory loadBalancerClientFactory) {
+		return new FeignBlockingLoadBalancerClient(
+				new TimedFeignClient(new ApacheHttpClient(feignHttpClientBean), meterRegistry), 
+				loadBalancerClient, loadBalancerProperties, loadBalancerClientFactory);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
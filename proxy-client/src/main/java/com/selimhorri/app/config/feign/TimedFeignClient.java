@@ -0,0 +1,69 @@
+package com.selimhorri.app.config.feign;
+
+import java.io.IOException;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the latency of every Feign call, tagged by client interface, method and 
+ * response status; time is measured until the response headers are received.
+ */
+@RequiredArgsConstructor
+public class TimedFeignClient implements Client {
+	
+	public static final String METRIC_NAME = "feign.client.requests";
+	private static final String UNKNOWN = "UNKNOWN";
+	
+	private final Client delegate;
+	private final MeterRegistry meterRegistry;
+	
+	@Override
+	public Response execute(final Request request, final Options options) throws IOException {
+		final Timer.Sample sample = Timer.start(this.meterRegistry);
+		String status = "IO_ERROR";
+		try {
+			final Response response = this.delegate.execute(request, options);
+			status = String.valueOf(response.status());
+			return response;
+		}
+		finally {
+			sample.stop(Timer.builder(METRIC_NAME)
+					.tag("client", clientOf(request))
+					.tag("method", methodOf(request))
+					.tag("status", status)
+					.publishPercentileHistogram()
+					.register(this.meterRegistry));
+		}
+	}
+	
+	private static String clientOf(final Request request) {
+		return (request.requestTemplate() == null || request.requestTemplate().feignTarget() == null) 
+				? UNKNOWN 
+				: request.requestTemplate().feignTarget().type().getSimpleName();
+	}
+	
+	private static String methodOf(final Request request) {
+		return (request.requestTemplate() == null || request.requestTemplate().methodMetadata() == null) 
+				? UNKNOWN 
+				: request.requestTemplate().methodMetadata().method().getName();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,70 @@
+package com.selimhorri.app.config.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.selimhorri.app.jwt.util.JwtAuthenticationHelper;
+import com.selimhorri.app.jwt.verifier.JwtVerifier;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Reactive counterpart of {@link JwtRequestFilter}; registered inside the security 
+ * filter chain rather than as a bean so that it runs exactly once per exchange.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+	
+	private static final String BEARER_PREFIX = "Bearer ";
+	
+	private final JwtVerifier jwtVerifier;
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+		
+		final String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX))
+			return chain.filter(exchange);
+		
+		return this.authenticate(authorizationHeader.substring(BEARER_PREFIX.length()))
+				.map(ReactiveSecurityContextHolder::withAuthentication)
+				.defaultIfEmpty(Context.empty())
+				.flatMap(context -> chain.filter(exchange).contextWrite(context));
+	}
+	
+	private Mono<UsernamePasswordAuthenticationToken> authenticate(final String jwt) {
+		final Claims claims;
+		try {
+			claims = this.jwtVerifier.verify(jwt);
+		}
+		catch (JwtException e) {
+			log.info("**ReactiveJwtAuthenticationFilter, rejected token: {}*\n", e.getMessage());
+			return Mono.empty();
+		}
+		
+		return Mono.justOrEmpty(JwtAuthenticationHelper.authenticationOf(claims));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
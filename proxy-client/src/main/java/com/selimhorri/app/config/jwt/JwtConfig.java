@@ -0,0 +1,97 @@
+package com.selimhorri.app.config.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.selimhorri.app.jwt.key.JwtKeyRing;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+@Slf4j
+public class JwtConfig {
+	
+	private static final String KEY_ALGORITHM = "RSA";
+	private static final int EPHEMERAL_KEY_SIZE = 2048;
+	
+	@Bean
+	public JwtKeyRing jwtKeyRingBean(final JwtProperties jwtProperties) throws GeneralSecurityException {
+		
+		if (jwtProperties.getSigningKeys().isEmpty()) {
+			if (!jwtProperties.isEphemeralKeyAllowed())
+				throw new IllegalStateException("No app.jwt.signing-keys configured; provide the key ring through " 
+						+ "JWT_ACTIVE_KEY_ID, JWT_PRIVATE_KEY and JWT_PUBLIC_KEY or the config server");
+			return ephemeralKeyRing();
+		}
+		
+		final KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
+		final Map<String, RSAPublicKey> publicKeys = new LinkedHashMap<>();
+		PrivateKey activePrivateKey = null;
+		
+		for (final JwtProperties.SigningKey signingKey : jwtProperties.getSigningKeys()) {
+			if (signingKey.getKeyId() == null || signingKey.getPublicKey() == null)
+				throw new IllegalStateException("Every app.jwt.signing-keys entry needs a key-id and a public-key");
+			try {
+				publicKeys.put(signingKey.getKeyId(), (RSAPublicKey) keyFactory.generatePublic(
+						new X509EncodedKeySpec(Base64.getMimeDecoder().decode(signingKey.getPublicKey()))));
+				if (signingKey.getKeyId().equals(jwtProperties.getActiveKeyId()) && signingKey.getPrivateKey() != null)
+					activePrivateKey = keyFactory.generatePrivate(
+							new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(signingKey.getPrivateKey())));
+			}
+			catch (IllegalArgumentException | GeneralSecurityException e) {
+				throw new IllegalStateException("Unreadable RSA key pair for JWT key id: " + signingKey.getKeyId() 
+						+ ", check JWT_ACTIVE_KEY_ID, JWT_PRIVATE_KEY and JWT_PUBLIC_KEY", e);
+			}
+		}
+		
+		if (activePrivateKey == null)
+			throw new IllegalStateException("No private key configured for active JWT key id: " 
+					+ jwtProperties.getActiveKeyId());
+		
+		return new JwtKeyRing(jwtProperties.getActiveKeyId(), activePrivateKey, publicKeys);
+	}
+	
+	/**
+	 * Dev fallback, only taken when app.jwt.ephemeral-key-allowed is set; keys live as 
+	 * long as this instance, tokens do not survive a restart nor verify on another 
+	 * proxy-client instance.
+	 */
+	private static JwtKeyRing ephemeralKeyRing() throws GeneralSecurityException {
+		
+		final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+		keyPairGenerator.initialize(EPHEMERAL_KEY_SIZE);
+		final KeyPair keyPair = keyPairGenerator.generateKeyPair();
+		final String keyId = "ephemeral-" + UUID.randomUUID();
+		
+		log.warn("**No app.jwt.signing-keys configured, signing tokens with ephemeral key {}*\n", keyId);
+		return new JwtKeyRing(keyId, keyPair.getPrivate(), Map.of(keyId, (RSAPublicKey) keyPair.getPublic()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
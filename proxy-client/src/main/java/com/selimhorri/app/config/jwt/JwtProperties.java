@@ -0,0 +1,59 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.jwt")
+@Data
+public class JwtProperties {
+	
+	private Duration accessTokenTtl = Duration.ofMinutes(15);
+	private Duration refreshTokenTtl = Duration.ofDays(7);
+	private long verifiedTokenCacheSize = 10_000L;
+	
+	/**
+	 * Key id used to sign new tokens; every key of signingKeys is still accepted 
+	 * and published, so a rotated-out key keeps verifying until its tokens expire.
+	 */
+	private String activeKeyId;
+	private List<SigningKey> signingKeys = new ArrayList<>();
+	
+	/**
+	 * Lets an instance without signingKeys sign with a key generated at startup; 
+	 * meant for local development only, such tokens do not survive a restart.
+	 */
+	private boolean ephemeralKeyAllowed;
+	
+	@Data
+	public static class SigningKey {
+		
+		private String keyId;
+		
+		/**
+		 * Base64 PKCS#8 RSA private key, may be left out for retired keys.
+		 */
+		private String privateKey;
+		
+		/**
+		 * Base64 X.509 RSA public key.
+		 */
+		private String publicKey;
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
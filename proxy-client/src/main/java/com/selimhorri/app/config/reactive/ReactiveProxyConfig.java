@@ -0,0 +1,90 @@
+package com.selimhorri.app.config.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.selimhorri.app.config.template.HttpClientProperties;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(ReactiveProxyProperties.class)
+public class ReactiveProxyConfig {
+	
+	/**
+	 * Boot prefers Tomcat for reactive apps whenever it is on the classpath, which it 
+	 * is for the servlet mode; serve the reactive mode from Reactor Netty instead.
+	 */
+	@Bean
+	public NettyReactiveWebServerFactory nettyReactiveWebServerFactoryBean() {
+		return new NettyReactiveWebServerFactory();
+	}
+	
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider reactiveProxyConnectionProviderBean(final HttpClientProperties httpClientProperties) {
+		return ConnectionProvider.builder("reactive-proxy")
+				.maxConnections(httpClientProperties.getMaxTotal())
+				.pendingAcquireTimeout(httpClientProperties.getConnectionRequestTimeout())
+				.maxIdleTime(httpClientProperties.getIdleEvictionTimeout())
+				.evictInBackground(httpClientProperties.getIdleEvictionTimeout())
+				.metrics(true)
+				.build();
+	}
+	
+	@LoadBalanced
+	@Bean
+	public WebClient.Builder reactiveProxyWebClientBuilderBean(final ConnectionProvider reactiveProxyConnectionProviderBean, 
+			final HttpClientProperties httpClientProperties) {
+		final HttpClient httpClient = HttpClient.create(reactiveProxyConnectionProviderBean)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpClientProperties.getConnectTimeout().toMillis())
+				.responseTimeout(httpClientProperties.getReadTimeout());
+		return WebClient.builder()
+				.clientConnector(new ReactorClientHttpConnector(httpClient));
+	}
+	
+	@Bean
+	public ReactiveProxyHandler reactiveProxyHandlerBean(final WebClient.Builder reactiveProxyWebClientBuilderBean) {
+		return new ReactiveProxyHandler(reactiveProxyWebClientBuilderBean.build());
+	}
+	
+	/**
+	 * Pass-through routes; RouterFunctionMapping is consulted before the annotated 
+	 * controllers, so every matched path bypasses the blocking Feign clients.
+	 */
+	@Bean
+	public RouterFunction<ServerResponse> reactiveProxyRouterFunctionBean(final ReactiveProxyHandler reactiveProxyHandlerBean, 
+			final ReactiveProxyProperties reactiveProxyProperties) {
+		return reactiveProxyProperties.getRoutes().stream()
+				.map(route -> RouterFunctions.route(RequestPredicates.path(route.getPath()), 
+						request -> reactiveProxyHandlerBean.forward(request, route)))
+				.reduce(RouterFunction::and)
+				.orElseGet(() -> RouterFunctions.route(request -> false, request -> ServerResponse.notFound().build()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
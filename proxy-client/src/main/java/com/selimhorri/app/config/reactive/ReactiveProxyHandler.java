@@ -0,0 +1,102 @@
+package com.selimhorri.app.config.reactive;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.selimhorri.app.config.reactive.ReactiveProxyProperties.Route;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveProxyHandler {
+	
+	private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+			"connection", "keep-alive", "proxy-authenticate", "proxy-authorization", 
+			"te", "trailer", "transfer-encoding", "upgrade", "host");
+	
+	private final WebClient webClient;
+	
+	public Mono<ServerResponse> forward(final ServerRequest request, final Route route) {
+		
+		final URI uri = UriComponentsBuilder.newInstance()
+				.scheme("http")
+				.host(route.getServiceId())
+				.path(route.getContextPath())
+				.path(request.requestPath().pathWithinApplication().value())
+				.query(request.uri().getRawQuery())
+				.build(true)
+				.toUri();
+		log.info("**ReactiveProxyHandler, forwarding {} {}*\n", request.method(), uri);
+		
+		final HttpHeaders requestHeaders = request.headers().asHttpHeaders();
+		final var requestSpec = this.webClient.method(request.method())
+				.uri(uri)
+				.headers(headers -> copyHeaders(requestHeaders, headers));
+		if (requestHeaders.getContentLength() > 0 || requestHeaders.containsKey(HttpHeaders.TRANSFER_ENCODING))
+			requestSpec.body(BodyInserters.fromDataBuffers(request.bodyToFlux(DataBuffer.class)));
+		
+		// every downstream status is relayed as is, only transport failures map to a 5xx of our own
+		return requestSpec.retrieve()
+				.onRawStatus(status -> true, response -> Mono.empty())
+				.toEntityFlux(DataBuffer.class)
+				.flatMap(ReactiveProxyHandler::relay)
+				.onErrorResume(e -> ServerResponse.status(statusOf(e)).build());
+	}
+	
+	/**
+	 * The downstream body is written through buffer by buffer, so streamed and large 
+	 * responses never sit in memory whole; the writer releases each buffer once sent.
+	 */
+	private static Mono<ServerResponse> relay(final ResponseEntity<Flux<DataBuffer>> response) {
+		return ServerResponse.status(response.getStatusCodeValue())
+				.headers(headers -> copyHeaders(response.getHeaders(), headers))
+				.body(BodyInserters.fromDataBuffers(response.getBody()));
+	}
+	
+	private static void copyHeaders(final HttpHeaders source, final HttpHeaders target) {
+		source.forEach((name, values) -> {
+			if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase()))
+				target.addAll(name, values);
+		});
+	}
+	
+	private static HttpStatus statusOf(final Throwable e) {
+		log.info("**ReactiveProxyHandler, downstream call failed: {}*\n", e.toString());
+		if (e instanceof TimeoutException || e.getCause() instanceof ReadTimeoutException)
+			return HttpStatus.GATEWAY_TIMEOUT;
+		if (e instanceof WebClientRequestException && e.getCause() instanceof ConnectException)
+			return HttpStatus.SERVICE_UNAVAILABLE;
+		return HttpStatus.BAD_GATEWAY;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,42 @@
+package com.selimhorri.app.config.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.reactive-proxy")
+@Data
+public class ReactiveProxyProperties {
+	
+	private List<Route> routes = new ArrayList<>();
+	
+	@Data
+	public static class Route {
+		
+		/**
+		 * Path pattern relative to the proxy-client base path, e.g. /api/products/**
+		 */
+		private String path;
+		private String serviceId;
+		
+		/**
+		 * Context path of the downstream service, prepended to the matched path.
+		 */
+		private String contextPath;
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
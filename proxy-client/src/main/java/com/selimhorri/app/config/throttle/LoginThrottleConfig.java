@@ -0,0 +1,22 @@
+package com.selimhorri.app.config.throttle;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LoginThrottleProperties.class)
+public class LoginThrottleConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
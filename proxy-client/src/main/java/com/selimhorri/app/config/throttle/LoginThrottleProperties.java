@@ -0,0 +1,48 @@
+package com.selimhorri.app.config.throttle;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.login-throttle")
+@Data
+public class LoginThrottleProperties {
+	
+	private Duration window = Duration.ofMinutes(5);
+	private int maxFailuresPerUsername = 5;
+	private int maxFailuresPerIp = 50;
+	private Duration initialBackoff = Duration.ofSeconds(30);
+	private Duration maxBackoff = Duration.ofMinutes(15);
+	private long maxTrackedKeys = 100_000L;
+	private Duration unknownUsernameTtl = Duration.ofMinutes(2);
+	private long maxUnknownUsernames = 100_000L;
+	private int lockStripes = 64;
+	
+	/**
+	 * Addresses or CIDR ranges of api-gateway; X-Forwarded-For is only read on requests 
+	 * coming from one of them, any other caller is throttled by its peer address.
+	 */
+	private Set<String> trustedProxies = new LinkedHashSet<>(List.of("127.0.0.1", "::1"));
+	
+	public boolean trustsProxy(final String remoteAddress) {
+		return remoteAddress != null 
+				&& this.trustedProxies.stream().anyMatch(proxy -> new IpAddressMatcher(proxy).matches(remoteAddress));
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
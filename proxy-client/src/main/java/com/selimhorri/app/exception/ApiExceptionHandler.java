@@ -3,6 +3,7 @@ package com.selimhorri.app.exception;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,6 +15,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import com.selimhorri.app.exception.payload.ExceptionMsg;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
+import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+import com.selimhorri.app.exception.wrapper.LoginThrottledException;
+import com.selimhorri.app.exception.wrapper.PasswordHashingSaturatedException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
 
@@ -86,6 +90,54 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = IllegalAuthenticationCredentialsException.class)
+	public ResponseEntity<ExceptionMsg> handleAuthenticationException(final IllegalAuthenticationCredentialsException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle authentication exception*\n");
+		final var unauthorized = HttpStatus.UNAUTHORIZED;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(unauthorized)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), unauthorized);
+	}
+	
+	@ExceptionHandler(value = PasswordHashingSaturatedException.class)
+	public ResponseEntity<ExceptionMsg> handlePasswordHashingSaturatedException(final PasswordHashingSaturatedException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle password hashing saturation*\n");
+		final var tooManyRequests = HttpStatus.TOO_MANY_REQUESTS;
+		
+		return ResponseEntity.status(tooManyRequests)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(tooManyRequests)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build());
+	}
+	
+	@ExceptionHandler(value = LoginThrottledException.class)
+	public ResponseEntity<ExceptionMsg> handleLoginThrottledException(final LoginThrottledException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle login throttling*\n");
+		final var tooManyRequests = HttpStatus.TOO_MANY_REQUESTS;
+		
+		return ResponseEntity.status(tooManyRequests)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.body(ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(tooManyRequests)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build());
+	}
+	
+	
 	
 	
 }
@@ -0,0 +1,28 @@
+package com.selimhorri.app.exception.wrapper;
+
+import lombok.Getter;
+
+@Getter
+public class LoginThrottledException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	private final long retryAfterSeconds;
+	
+	public LoginThrottledException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
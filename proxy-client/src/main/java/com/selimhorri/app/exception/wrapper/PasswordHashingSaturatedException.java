@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class PasswordHashingSaturatedException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public PasswordHashingSaturatedException() {
+		super();
+	}
+	
+	public PasswordHashingSaturatedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public PasswordHashingSaturatedException(String message) {
+		super(message);
+	}
+	
+	public PasswordHashingSaturatedException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,43 @@
+package com.selimhorri.app.jwt.key;
+
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Collections;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * RSA keys used for RS256 tokens: one active private key to sign with, and every 
+ * known public key by kid to verify with.
+ */
+@Getter
+public class JwtKeyRing {
+	
+	private final String activeKeyId;
+	private final PrivateKey activePrivateKey;
+	private final Map<String, RSAPublicKey> publicKeys;
+	
+	public JwtKeyRing(final String activeKeyId, final PrivateKey activePrivateKey, final Map<String, RSAPublicKey> publicKeys) {
+		this.activeKeyId = activeKeyId;
+		this.activePrivateKey = activePrivateKey;
+		this.publicKeys = Collections.unmodifiableMap(publicKeys);
+	}
+	
+	public RSAPublicKey findPublicKey(final String keyId) {
+		return this.publicKeys.get(keyId);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
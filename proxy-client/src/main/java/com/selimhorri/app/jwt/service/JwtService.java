@@ -13,6 +13,7 @@ public interface JwtService {
 	Date extractExpiration(final String token);
 	<T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
 	String generateToken(final UserDetails userDetails);
+	String generateRefreshToken(final UserDetails userDetails);
 	Boolean validateToken(final String token, final UserDetails userDetails);
 	
 }
@@ -44,6 +44,12 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.generateToken(userDetails);
 	}
 	
+	@Override
+	public String generateRefreshToken(final UserDetails userDetails) {
+		log.info("**String, jwt service generate refresh token from given userDetails!*");
+		return this.jwtUtil.generateRefreshToken(userDetails);
+	}
+	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
 		log.info("**Boolean, jwt service validate token from given token and userDetails!*");
@@ -0,0 +1,36 @@
+package com.selimhorri.app.jwt.util;
+
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+
+public interface JwtAuthenticationHelper {
+	
+	/**
+	 * Authentication carried by a verified access token, or null when the token is 
+	 * not an access token or describes a disabled, locked or role-less account.
+	 */
+	public static UsernamePasswordAuthenticationToken authenticationOf(final Claims claims) {
+		if (!JwtUtil.ACCESS_TOKEN_TYPE.equals(claims.get(JwtUtil.CLAIM_TOKEN_TYPE)) 
+				|| !Boolean.TRUE.equals(claims.get(JwtUtil.CLAIM_ENABLED, Boolean.class)) 
+				|| Boolean.TRUE.equals(claims.get(JwtUtil.CLAIM_LOCKED, Boolean.class)) 
+				|| claims.get(JwtUtil.CLAIM_ROLE, String.class) == null)
+			return null;
+		return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, 
+				List.of(new SimpleGrantedAuthority(claims.get(JwtUtil.CLAIM_ROLE, String.class))));
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
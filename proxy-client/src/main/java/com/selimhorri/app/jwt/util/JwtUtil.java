@@ -9,10 +9,18 @@ import io.jsonwebtoken.Claims;
 
 public interface JwtUtil {
 	
+	public static final String CLAIM_TOKEN_TYPE = "token_type";
+	public static final String CLAIM_ROLE = "role";
+	public static final String CLAIM_ENABLED = "enabled";
+	public static final String CLAIM_LOCKED = "locked";
+	public static final String ACCESS_TOKEN_TYPE = "access";
+	public static final String REFRESH_TOKEN_TYPE = "refresh";
+	
 	String extractUsername(final String token);
 	Date extractExpiration(final String token);
 	<T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
 	String generateToken(final UserDetails userDetails);
+	String generateRefreshToken(final UserDetails userDetails);
 	Boolean validateToken(final String token, final UserDetails userDetails);
 	
 }
@@ -1,23 +1,54 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.key.JwtKeyRing;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtilImpl implements JwtUtil {
 	
-	private static final String SECRET_KEY = "secret";
+	private final JwtProperties jwtProperties;
+	private final JwtKeyRing jwtKeyRing;
+	
+	/**
+	 * Picks the RSA public key by the kid header and refuses any other algorithm, 
+	 * HS256 tokens signed with a public key included.
+	 */
+	private final SigningKeyResolver signingKeyResolver = new SigningKeyResolverAdapter() {
+		
+		@Override
+		public Key resolveSigningKey(final JwsHeader header, final Claims claims) {
+			if (!SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm()))
+				throw new UnsupportedJwtException("Unsupported token algorithm: " + header.getAlgorithm());
+			final Key publicKey = jwtKeyRing.findPublicKey(header.getKeyId());
+			if (publicKey == null)
+				throw new SignatureException("Unknown token key id: " + header.getKeyId());
+			return publicKey;
+		}
+		
+	};
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -36,34 +67,45 @@ public class JwtUtilImpl implements JwtUtil {
 	}
 	
 	private Claims extractAllClaims(final String token) {
-		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+		return Jwts.parser().setSigningKeyResolver(this.signingKeyResolver).parseClaimsJws(token).getBody();
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+	@Override
+	public String generateToken(final UserDetails userDetails) {
+		final Map<String, Object> claims = new HashMap<>();
+		claims.put(CLAIM_TOKEN_TYPE, ACCESS_TOKEN_TYPE);
+		claims.put(CLAIM_ROLE, userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.findFirst()
+				.orElse(null));
+		claims.put(CLAIM_ENABLED, userDetails.isEnabled());
+		claims.put(CLAIM_LOCKED, !userDetails.isAccountNonLocked());
+		return this.createToken(claims, userDetails.getUsername(), this.jwtProperties.getAccessTokenTtl());
 	}
 	
 	@Override
-	public String generateToken(final UserDetails userDetails) {
+	public String generateRefreshToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
-		return this.createToken(claims, userDetails.getUsername());
+		claims.put(CLAIM_TOKEN_TYPE, REFRESH_TOKEN_TYPE);
+		return this.createToken(claims, userDetails.getUsername(), this.jwtProperties.getRefreshTokenTtl());
 	}
 	
-	private String createToken(final Map<String, Object> claims, final String subject) {
+	private String createToken(final Map<String, Object> claims, final String subject, final Duration ttl) {
 		return Jwts.builder()
+					.setHeaderParam(JwsHeader.KEY_ID, this.jwtKeyRing.getActiveKeyId())
 					.setClaims(claims)
 					.setSubject(subject)
 					.setIssuedAt(new Date(System.currentTimeMillis()))
-					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+					.setExpiration(new Date(System.currentTimeMillis() + ttl.toMillis()))
+					.signWith(SignatureAlgorithm.RS256, this.jwtKeyRing.getActivePrivateKey())
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		final Claims claims = this.extractAllClaims(token);
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date())
 		);
 	}
 	
@@ -0,0 +1,19 @@
+package com.selimhorri.app.jwt.verifier;
+
+import io.jsonwebtoken.Claims;
+
+public interface JwtVerifier {
+	
+	Claims verify(final String token);
+	
+}
+
+
+
+
+
+
+
+
+
+
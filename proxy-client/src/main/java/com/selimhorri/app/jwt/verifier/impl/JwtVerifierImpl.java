@@ -0,0 +1,96 @@
+package com.selimhorri.app.jwt.verifier.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.JwtUtil;
+import com.selimhorri.app.jwt.verifier.JwtVerifier;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Parses and verifies a token once, then serves its claims from a bounded cache 
+ * keyed by the SHA-256 of the token. Each entry lives until the token's own 
+ * expiration, so a cached token is never accepted past its exp claim.
+ */
+@Component
+public class JwtVerifierImpl implements JwtVerifier {
+	
+	private final JwtUtil jwtUtil;
+	private final Cache<ByteBuffer, Claims> verifiedTokens;
+	
+	public JwtVerifierImpl(final JwtUtil jwtUtil, final JwtProperties jwtProperties) {
+		this.jwtUtil = jwtUtil;
+		this.verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+				.expireAfter(new ClaimsExpiry())
+				.build();
+	}
+	
+	@Override
+	public Claims verify(final String token) {
+		final ByteBuffer tokenHash = hash(token);
+		final Claims cached = this.verifiedTokens.getIfPresent(tokenHash);
+		if (cached != null)
+			return cached;
+		
+		// parse outside of the cache loader, so that JwtException reaches the caller untouched
+		final Claims claims = this.jwtUtil.extractClaims(token, Function.identity());
+		if (claims.getExpiration() != null)
+			this.verifiedTokens.put(tokenHash, claims);
+		return claims;
+	}
+	
+	private static ByteBuffer hash(final String token) {
+		try {
+			return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.US_ASCII)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final class ClaimsExpiry implements Expiry<ByteBuffer, Claims> {
+		
+		@Override
+		public long expireAfterCreate(final ByteBuffer key, final Claims claims, final long currentTime) {
+			final long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+		}
+		
+		@Override
+		public long expireAfterUpdate(final ByteBuffer key, final Claims claims, final long currentTime, final long currentDuration) {
+			return this.expireAfterCreate(key, claims, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(final ByteBuffer key, final Claims claims, final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,108 @@
+package com.selimhorri.app.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.ReactiveAuthenticationManagerAdapter;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.header.XFrameOptionsServerHttpHeadersWriter.Mode;
+
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.config.filter.ReactiveJwtAuthenticationFilter;
+import com.selimhorri.app.jwt.verifier.JwtVerifier;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Same access rules as {@link SecurityConfig}, applied when proxy-client runs on WebFlux.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+	
+	private final UserDetailsService userDetailsService;
+	private final PasswordEncoder passwordEncoder;
+	private final JwtVerifier jwtVerifier;
+	
+	@Bean
+	public AuthenticationManager authenticationManagerBean() {
+		// unknown usernames must stay distinguishable so that login throttling can cache them
+		final var authenticationProvider = new DaoAuthenticationProvider();
+		authenticationProvider.setUserDetailsService(this.userDetailsService);
+		authenticationProvider.setPasswordEncoder(this.passwordEncoder);
+		authenticationProvider.setHideUserNotFoundExceptions(false);
+		return new ProviderManager(authenticationProvider);
+	}
+	
+	@Bean
+	public ReactiveAuthenticationManager reactiveAuthenticationManagerBean(final AuthenticationManager authenticationManagerBean) {
+		return new ReactiveAuthenticationManagerAdapter(authenticationManagerBean);
+	}
+	
+	@Bean
+	public SecurityWebFilterChain securityWebFilterChainBean(final ServerHttpSecurity http) {
+		return http.cors().disable()
+			.csrf().disable()
+			.httpBasic().disable()
+			.formLogin().disable()
+			.logout().disable()
+			.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+			.authorizeExchange()
+				.pathMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+				.pathMatchers("/", "index", "**/css/**", "**/js/**").permitAll()
+				.pathMatchers("/api/authenticate/**").permitAll()
+				.pathMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
+				.pathMatchers("/api/categories/**").permitAll()
+				.pathMatchers("/api/products/**").permitAll()
+				// no user behind these calls, the controller checks the shared invalidation token instead
+				.pathMatchers(HttpMethod.POST, "/api/cache/invalidations").permitAll()
+				.pathMatchers("/api/**")
+					.hasAnyRole(RoleBasedAuthority.ROLE_USER.getRole(), 
+							RoleBasedAuthority.ROLE_ADMIN.getRole())
+				.pathMatchers("/actuator/health/**", "/actuator/info/**")
+					.permitAll()
+				.pathMatchers("/actuator/**")
+					.hasAnyRole(RoleBasedAuthority.ROLE_ADMIN.getRole())
+				.anyExchange().authenticated()
+			.and()
+			.exceptionHandling()
+				.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN))
+			.and()
+			.headers()
+				.frameOptions()
+				.mode(Mode.SAMEORIGIN)
+			.and()
+			.addFilterAt(new ReactiveJwtAuthenticationFilter(this.jwtVerifier), 
+					SecurityWebFiltersOrder.AUTHENTICATION)
+			.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
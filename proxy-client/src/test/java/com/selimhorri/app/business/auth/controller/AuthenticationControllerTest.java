@@ -0,0 +1,91 @@
+package com.selimhorri.app.business.auth.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.config.throttle.LoginThrottleProperties;
+
+/**
+ * Pruebas unitarias para AuthenticationController
+ * Valida que X-Forwarded-For solo se usa como IP del cliente cuando la peticion llega desde un proxy de confianza
+ */
+class AuthenticationControllerTest {
+
+    private static final AuthenticationRequest LOGIN = AuthenticationRequest.builder()
+            .username("selimhorri")
+            .password("secret")
+            .build();
+
+    private AuthenticationService authenticationService;
+    private AuthenticationController authenticationController;
+
+    @BeforeEach
+    void setUp() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.setTrustedProxies(Set.of("10.1.0.0/16"));
+        authenticationService = mock(AuthenticationService.class);
+        authenticationController = new AuthenticationController(authenticationService, properties);
+    }
+
+    /**
+     * Prueba 1: Verificar que un cliente directo no puede elegir su IP con X-Forwarded-For
+     */
+    @Test
+    void authenticate_ShouldIgnoreForwardedForFromUntrustedPeer() {
+        // Given
+        MockHttpServletRequest request = requestFrom("203.0.113.7", "198.51.100.1");
+
+        // When
+        authenticationController.authenticate(LOGIN, request);
+
+        // Then
+        verify(authenticationService).authenticate(any(), eq("203.0.113.7"));
+    }
+
+    /**
+     * Prueba 2: Verificar que detras del gateway se usa el ultimo salto de X-Forwarded-For
+     */
+    @Test
+    void authenticate_ShouldUseLastForwardedHopFromTrustedProxy() {
+        // Given
+        MockHttpServletRequest request = requestFrom("10.1.4.2", "198.51.100.1, 203.0.113.7");
+
+        // When
+        authenticationController.authenticate(LOGIN, request);
+
+        // Then
+        verify(authenticationService).authenticate(any(), eq("203.0.113.7"));
+    }
+
+    /**
+     * Prueba 3: Verificar que sin X-Forwarded-For se usa la direccion del peer
+     */
+    @Test
+    void authenticate_ShouldUsePeerAddressWithoutForwardedFor() {
+        // Given
+        MockHttpServletRequest request = requestFrom("10.1.4.2", null);
+
+        // When
+        authenticationController.authenticate(LOGIN, request);
+
+        // Then
+        verify(authenticationService).authenticate(any(), eq("10.1.4.2"));
+    }
+
+    private static MockHttpServletRequest requestFrom(String remoteAddress, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/authenticate");
+        request.setRemoteAddr(remoteAddress);
+        if (forwardedFor != null)
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
+import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
+import com.selimhorri.app.business.auth.service.LoginAttemptService;
+import com.selimhorri.app.config.jwt.JwtConfig;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.JwtUtil;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+/**
+ * Pruebas unitarias para AuthenticationServiceImpl
+ * Valida que el refresh solo acepta refresh tokens firmados y rechaza cuentas deshabilitadas o bloqueadas
+ */
+class AuthenticationServiceImplTest {
+
+    private static final List<SimpleGrantedAuthority> USER_ROLE = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final UserDetails active = new User("active", "", USER_ROLE);
+    private final UserDetails disabled = new User("disabled", "", false, true, true, true, USER_ROLE);
+    private final UserDetails locked = new User("locked", "", true, true, true, false, USER_ROLE);
+
+    private JwtService jwtService;
+    private AuthenticationServiceImpl authenticationService;
+
+    @BeforeEach
+    void setUp() throws GeneralSecurityException {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setEphemeralKeyAllowed(true);
+        jwtService = new JwtServiceImpl(new JwtUtilImpl(jwtProperties, new JwtConfig().jwtKeyRingBean(jwtProperties)));
+        Map<String, UserDetails> accounts = Map.of("active", active, "disabled", disabled, "locked", locked);
+        authenticationService = new AuthenticationServiceImpl(mock(AuthenticationManager.class), username -> {
+            if (!accounts.containsKey(username))
+                throw new UsernameNotFoundException(username);
+            return accounts.get(username);
+        }, jwtService, jwtProperties, mock(LoginAttemptService.class));
+    }
+
+    /**
+     * Prueba 1: Verificar que un refresh token valido emite un nuevo access token y un nuevo refresh token
+     */
+    @Test
+    void refresh_ShouldIssueNewTokensForRefreshToken() {
+        // Given
+        RefreshTokenRequest request = refreshRequestOf(jwtService.generateRefreshToken(active));
+
+        // When
+        AuthenticationResponse response = authenticationService.refresh(request);
+
+        // Then
+        assertEquals(JwtUtil.ACCESS_TOKEN_TYPE, tokenTypeOf(response.getJwtToken()));
+        assertEquals(JwtUtil.REFRESH_TOKEN_TYPE, tokenTypeOf(response.getRefreshToken()));
+        assertEquals("active", jwtService.extractUsername(response.getJwtToken()));
+    }
+
+    /**
+     * Prueba 2: Verificar que un access token no sirve como refresh token
+     */
+    @Test
+    void refresh_ShouldRejectAccessToken() {
+        // Given
+        RefreshTokenRequest request = refreshRequestOf(jwtService.generateToken(active));
+
+        // When / Then
+        assertThrows(IllegalAuthenticationCredentialsException.class, () -> authenticationService.refresh(request));
+    }
+
+    /**
+     * Prueba 3: Verificar que una cuenta deshabilitada o bloqueada no puede refrescar sus tokens
+     */
+    @Test
+    void refresh_ShouldRejectDisabledOrLockedAccount() {
+        // Given
+        RefreshTokenRequest disabledRequest = refreshRequestOf(jwtService.generateRefreshToken(disabled));
+        RefreshTokenRequest lockedRequest = refreshRequestOf(jwtService.generateRefreshToken(locked));
+
+        // When / Then
+        assertThrows(IllegalAuthenticationCredentialsException.class, () -> authenticationService.refresh(disabledRequest));
+        assertThrows(IllegalAuthenticationCredentialsException.class, () -> authenticationService.refresh(lockedRequest));
+    }
+
+    /**
+     * Prueba 4: Verificar que un token mal formado se rechaza como credencial invalida
+     */
+    @Test
+    void refresh_ShouldRejectMalformedToken() {
+        // Given
+        RefreshTokenRequest request = refreshRequestOf("not.a.token");
+
+        // When / Then
+        assertThrows(IllegalAuthenticationCredentialsException.class, () -> authenticationService.refresh(request));
+    }
+
+    private String tokenTypeOf(String token) {
+        return jwtService.extractClaims(token, Function.identity()).get(JwtUtil.CLAIM_TOKEN_TYPE, String.class);
+    }
+
+    private static RefreshTokenRequest refreshRequestOf(String refreshToken) {
+        return RefreshTokenRequest.builder().refreshToken(refreshToken).build();
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.throttle.LoginThrottleProperties;
+import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para LoginAttemptServiceImpl
+ * Valida el cache negativo de usuarios desconocidos y su invalidacion cuando user-service reporta cambios
+ */
+class LoginAttemptServiceImplTest {
+
+    private static final String USERNAME = "selimhorri";
+    private static final String CLIENT_IP = "10.0.0.1";
+
+    private LoginAttemptServiceImpl loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptService = new LoginAttemptServiceImpl(new LoginThrottleProperties(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * Prueba 1: Verificar que un usuario desconocido se rechaza sin consultar user-service
+     */
+    @Test
+    void checkAllowed_ShouldRejectRememberedUnknownUsername() {
+        // Given
+        loginAttemptService.unknownUsername(USERNAME, CLIENT_IP);
+
+        // When / Then
+        assertThrows(IllegalAuthenticationCredentialsException.class,
+                () -> loginAttemptService.checkAllowed(USERNAME, CLIENT_IP));
+    }
+
+    /**
+     * Prueba 2: Verificar que un usuario recien creado puede iniciar sesion tras la invalidacion
+     */
+    @Test
+    void forgetUnknownUsernames_ShouldAllowCreatedUsername() {
+        // Given
+        loginAttemptService.unknownUsername(USERNAME, CLIENT_IP);
+
+        // When
+        loginAttemptService.forgetUnknownUsernames();
+
+        // Then
+        assertDoesNotThrow(() -> loginAttemptService.checkAllowed(USERNAME, CLIENT_IP));
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.selimhorri.app.config.encoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.selimhorri.app.exception.ApiExceptionHandler;
+import com.selimhorri.app.exception.payload.ExceptionMsg;
+import com.selimhorri.app.exception.wrapper.PasswordHashingSaturatedException;
+
+/**
+ * Pruebas unitarias para BoundedPasswordEncoder
+ * Valida que un pool saturado rechaza la verificacion con 429 y que sin saturacion la verificacion es correcta
+ */
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        boundedPasswordEncoder = new EncoderConfig().getPasswordEncoder(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        boundedPasswordEncoder.shutdown();
+    }
+
+    /**
+     * Prueba 1: Verificar que con el hilo ocupado y la cola llena la verificacion se rechaza y responde 429 con Retry-After
+     */
+    @Test
+    void matches_ShouldRejectWhenPoolIsSaturated() {
+        // Given
+        boundedPasswordEncoder.getPasswordHashingExecutor().submit(this::blockUntilReleased);
+        boundedPasswordEncoder.getPasswordHashingExecutor().submit(this::blockUntilReleased);
+        String encodedPassword = new BCryptPasswordEncoder(4).encode("secret");
+
+        // When
+        PasswordHashingSaturatedException exception = assertThrows(PasswordHashingSaturatedException.class,
+                () -> boundedPasswordEncoder.matches("secret", encodedPassword));
+        ResponseEntity<ExceptionMsg> response = new ApiExceptionHandler()
+                .handlePasswordHashingSaturatedException(exception);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    /**
+     * Prueba 2: Verificar que sin saturacion la verificacion acepta la clave correcta y rechaza la incorrecta
+     */
+    @Test
+    void matches_ShouldVerifyPasswordWhenPoolIsFree() {
+        // Given
+        String encodedPassword = boundedPasswordEncoder.encode("secret");
+
+        // When / Then
+        assertTrue(boundedPasswordEncoder.matches("secret", encodedPassword));
+        assertFalse(boundedPasswordEncoder.matches("wrong", encodedPassword));
+    }
+
+    private boolean blockUntilReleased() {
+        try {
+            release.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+}
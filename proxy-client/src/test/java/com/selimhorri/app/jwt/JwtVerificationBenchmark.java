@@ -0,0 +1,114 @@
+package com.selimhorri.app.jwt;
+
+import java.security.GeneralSecurityException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.config.jwt.JwtConfig;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.JwtUtil;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+import com.selimhorri.app.jwt.verifier.JwtVerifier;
+import com.selimhorri.app.jwt.verifier.impl.JwtVerifierImpl;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Per-request cost of the proxy JWT check, run with the GC profiler so that 
+ * gc.alloc.rate.norm reports bytes allocated per request. Every case verifies the 
+ * same RS256 token against the same key ring, so only the number of parses differs.
+ * 
+ * <ul>
+ * <li>legacyTripleParse: previous filter path, the token parsed three times</li>
+ * <li>singleParse: one parse of the same token (cache miss)</li>
+ * <li>cachedVerify: verified-token cache hit</li>
+ * </ul>
+ * 
+ * Run from proxy-client with a plain java launcher, the forked JMH JVM needs the 
+ * classpath on its command line: mvn test-compile dependency:build-classpath 
+ * -Dmdep.outputFile=target/cp.txt, then java -cp target/test-classes:target/classes:$(cat target/cp.txt) 
+ * com.selimhorri.app.jwt.JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+	
+	private JwtUtil jwtUtil;
+	private JwtVerifier jwtVerifier;
+	private UserDetails userDetails;
+	private String token;
+	
+	@Setup
+	public void setup() throws GeneralSecurityException {
+		final var jwtProperties = new JwtProperties();
+		jwtProperties.setEphemeralKeyAllowed(true);
+		this.jwtUtil = new JwtUtilImpl(jwtProperties, new JwtConfig().jwtKeyRingBean(jwtProperties));
+		this.jwtVerifier = new JwtVerifierImpl(this.jwtUtil, jwtProperties);
+		this.userDetails = new User("selimhorri", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+		this.jwtVerifier.verify(this.token);
+	}
+	
+	@Benchmark
+	public boolean legacyTripleParse() {
+		final String username = this.jwtUtil.extractUsername(this.token);
+		return username.equals(this.userDetails.getUsername()) 
+				&& this.jwtUtil.extractUsername(this.token).equals(this.userDetails.getUsername()) 
+				&& !this.jwtUtil.extractExpiration(this.token).before(new Date());
+	}
+	
+	@Benchmark
+	public Claims singleParse() {
+		return this.jwtUtil.extractClaims(this.token, Function.identity());
+	}
+	
+	@Benchmark
+	public Claims cachedVerify() {
+		return this.jwtVerifier.verify(this.token);
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JwtVerificationBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+			.run();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
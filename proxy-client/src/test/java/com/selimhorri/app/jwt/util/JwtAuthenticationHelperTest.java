@@ -0,0 +1,102 @@
+package com.selimhorri.app.jwt.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.selimhorri.app.config.jwt.JwtConfig;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Pruebas unitarias para JwtAuthenticationHelper
+ * Valida que solo un access token de una cuenta activa y con rol produce una Authentication
+ */
+class JwtAuthenticationHelperTest {
+
+    private static final List<SimpleGrantedAuthority> USER_ROLE = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws GeneralSecurityException {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setEphemeralKeyAllowed(true);
+        jwtUtil = new JwtUtilImpl(jwtProperties, new JwtConfig().jwtKeyRingBean(jwtProperties));
+    }
+
+    /**
+     * Prueba 1: Verificar que un access token de una cuenta activa produce una Authentication con su rol
+     */
+    @Test
+    void authenticationOf_ShouldAuthenticateAccessToken() {
+        // Given
+        Claims claims = claimsOf(jwtUtil.generateToken(new User("selimhorri", "", USER_ROLE)));
+
+        // When
+        UsernamePasswordAuthenticationToken authentication = JwtAuthenticationHelper.authenticationOf(claims);
+
+        // Then
+        assertNotNull(authentication);
+        assertEquals("selimhorri", authentication.getPrincipal());
+        assertEquals(List.of("ROLE_USER"), authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Prueba 2: Verificar que un refresh token no se acepta como access token
+     */
+    @Test
+    void authenticationOf_ShouldRejectRefreshToken() {
+        // Given
+        Claims claims = claimsOf(jwtUtil.generateRefreshToken(new User("selimhorri", "", USER_ROLE)));
+
+        // When / Then
+        assertNull(JwtAuthenticationHelper.authenticationOf(claims));
+    }
+
+    /**
+     * Prueba 3: Verificar que un access token sin rol no produce Authentication
+     */
+    @Test
+    void authenticationOf_ShouldRejectClaimsWithoutRole() {
+        // Given
+        Claims claims = claimsOf(jwtUtil.generateToken(new User("selimhorri", "", List.of())));
+
+        // When / Then
+        assertNull(claims.get(JwtUtil.CLAIM_ROLE));
+        assertNull(JwtAuthenticationHelper.authenticationOf(claims));
+    }
+
+    /**
+     * Prueba 4: Verificar que el access token de una cuenta deshabilitada o bloqueada no produce Authentication
+     */
+    @Test
+    void authenticationOf_ShouldRejectDisabledOrLockedAccount() {
+        // Given
+        Claims disabled = claimsOf(jwtUtil.generateToken(new User("disabled", "", false, true, true, true, USER_ROLE)));
+        Claims locked = claimsOf(jwtUtil.generateToken(new User("locked", "", true, true, true, false, USER_ROLE)));
+
+        // When / Then
+        assertNull(JwtAuthenticationHelper.authenticationOf(disabled));
+        assertNull(JwtAuthenticationHelper.authenticationOf(locked));
+    }
+
+    private Claims claimsOf(String token) {
+        return jwtUtil.extractClaims(token, Function.identity());
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.sleuth.instrument.async.TraceableExecutorService;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded pool running the remote lookups of an enrichment stage concurrently. 
+ * Callers share one deadline per request and get an empty result for any lookup 
+ * that misses it, so a slow dependency degrades the response instead of delaying it. 
+ * A saturated pool rejects the lookup rather than running it on the request thread, 
+ * which would escape the deadline, and the caller treats it as missing.
+ */
+@Slf4j
+public class EnrichmentExecutor implements DisposableBean {
+	
+	private static final String EXECUTOR_NAME = "enrichment";
+	
+	private final ExecutorService executorService;
+	private final MeterRegistry meterRegistry;
+	private final long deadlineNanos;
+	
+	public EnrichmentExecutor(final EnrichmentProperties enrichmentProperties, 
+			final MeterRegistry meterRegistry, final BeanFactory beanFactory) {
+		this(new TraceableExecutorService(beanFactory, 
+						ExecutorServiceMetrics.monitor(meterRegistry, threadPoolOf(enrichmentProperties), EXECUTOR_NAME), 
+						EXECUTOR_NAME), 
+				meterRegistry, enrichmentProperties.getDeadline());
+	}
+	
+	EnrichmentExecutor(final ExecutorService executorService, final MeterRegistry meterRegistry, final Duration deadline) {
+		this.executorService = executorService;
+		this.meterRegistry = meterRegistry;
+		this.deadlineNanos = deadline.toNanos();
+	}
+	
+	static ThreadPoolExecutor threadPoolOf(final EnrichmentProperties enrichmentProperties) {
+		return new ThreadPoolExecutor(
+				enrichmentProperties.getCorePoolSize(), 
+				enrichmentProperties.getMaxPoolSize(), 
+				60L, TimeUnit.SECONDS, 
+				new ArrayBlockingQueue<>(enrichmentProperties.getQueueCapacity()), 
+				new CustomizableThreadFactory(EXECUTOR_NAME + "-"), 
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+	
+	public long deadline() {
+		return System.nanoTime() + this.deadlineNanos;
+	}
+	
+	/**
+	 * Runs the lookup on the pool; cancelling the returned future interrupts it, and a 
+	 * rejected lookup comes back already failed.
+	 */
+	public <T> CompletableFuture<T> submit(final Supplier<T> lookup) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		try {
+			final Future<?> task = this.executorService.submit(() -> {
+				try {
+					result.complete(lookup.get());
+				}
+				catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				}
+			});
+			result.whenComplete((value, error) -> {
+				if (result.isCancelled())
+					task.cancel(true);
+			});
+		}
+		catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+	
+	public <T> Optional<T> await(final CompletableFuture<T> lookup, final long deadline, final String dependency) {
+		try {
+			return Optional.ofNullable(lookup.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+		}
+		catch (TimeoutException e) {
+			lookup.cancel(true);
+			log.warn("*** Enrichment from {} missed its deadline, returning partial result *", dependency);
+			this.recordPartial(dependency, "timeout");
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RejectedExecutionException) {
+				log.warn("*** Enrichment pool saturated, skipping {} and returning partial result *", dependency);
+				this.recordPartial(dependency, "rejected");
+				return Optional.empty();
+			}
+			log.warn("*** Enrichment from {} failed, returning partial result: {} *", dependency, e.getCause().getMessage());
+			this.recordPartial(dependency, "error");
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.recordPartial(dependency, "interrupted");
+		}
+		return Optional.empty();
+	}
+	
+	private void recordPartial(final String dependency, final String cause) {
+		this.meterRegistry.counter("enrichment.partial", "dependency", dependency, "cause", cause).increment();
+	}
+	
+	@Override
+	public void destroy() {
+		this.executorService.shutdownNow();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,73 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+
+public interface KeysetPageHelper {
+	
+	public static final String CURSOR_SEPARATOR = ",";
+	
+	public static int limit(final Integer requestedLimit) {
+		if (requestedLimit == null)
+			return AppConstant.DEFAULT_PAGE_SIZE;
+		return Math.max(1, Math.min(requestedLimit, AppConstant.MAX_PAGE_SIZE));
+	}
+	
+	public static Integer intCursor(final String after) {
+		if (after == null || after.isBlank())
+			return null;
+		try {
+			return Integer.parseInt(after.strip());
+		}
+		catch (NumberFormatException e) {
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", after), e);
+		}
+	}
+	
+	public static OrderItemId orderItemId(final String after) {
+		if (after == null || after.isBlank())
+			return null;
+		final String[] keys = after.strip().split(CURSOR_SEPARATOR, 2);
+		if (keys.length != 2)
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", after));
+		try {
+			return new OrderItemId(Integer.parseInt(keys[0]), Integer.parseInt(keys[1]));
+		}
+		catch (NumberFormatException e) {
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", after), e);
+		}
+	}
+	
+	public static String orderItemCursor(final OrderItemDto orderItemDto) {
+		return orderItemDto.getProductId() + CURSOR_SEPARATOR + orderItemDto.getOrderId();
+	}
+	
+	/**
+	 * Builds a page out of a window fetched with limit + 1 rows, 
+	 * the extra row only tells whether a next page exists.
+	 */
+	public static <T> DtoCollectionResponse<T> page(final List<T> window, final int limit, 
+			final Function<T, String> cursorOf) {
+		if (window.size() <= limit)
+			return new DtoCollectionResponse<>(window, null, false);
+		final List<T> page = List.copyOf(window.subList(0, limit));
+		return new DtoCollectionResponse<>(page, cursorOf.apply(page.get(limit - 1)), true);
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,42 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
 	
+	@Query("SELECT o FROM OrderItem o ORDER BY o.productId, o.orderId")
+	List<OrderItem> findFirstPage(final Pageable pageable);
+	
+	@Query("SELECT o FROM OrderItem o "
+			+ "WHERE o.productId > :productId "
+			+ "OR (o.productId = :productId AND o.orderId > :orderId) "
+			+ "ORDER BY o.productId, o.orderId")
+	List<OrderItem> findPageAfter(@Param("productId") final Integer productId, 
+			@Param("orderId") final Integer orderId, 
+			final Pageable pageable);
+	
+	List<OrderItem> findAllByOrderId(final Integer orderId);
 	
+	@QueryHints({
+			@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE), 
+			@QueryHint(name = HINT_READONLY, value = "true")})
+	@Query("SELECT o FROM OrderItem o")
+	Stream<OrderItem> streamAll();
 	
 }
@@ -1,6 +1,7 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderItemDto;
@@ -8,7 +9,10 @@ import com.selimhorri.app.dto.OrderItemDto;
 public interface OrderItemService {
 	
 	List<OrderItemDto> findAll();
+	List<OrderItemDto> findAll(final OrderItemId after, final int limit);
+	void streamAll(final Consumer<OrderItemDto> consumer);
 	OrderItemDto findById(final OrderItemId orderItemId);
+	List<OrderItemDto> findAllByOrderId(final Integer orderId);
 	OrderItemDto save(final OrderItemDto orderItemDto);
 	OrderItemDto update(final OrderItemDto orderItemDto);
 	void deleteById(final OrderItemId orderItemId);
@@ -1,14 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
@@ -17,6 +32,8 @@ import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
+import com.selimhorri.app.service.lookup.RemoteDtoCache;
+import com.selimhorri.app.service.lookup.RemoteLookupMemo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,40 +45,70 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RemoteLookupMemo remoteLookupMemo;
+	private final RemoteDtoCache remoteDtoCache;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrich(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<OrderItemDto> findAll(final OrderItemId after, final int limit) {
+		log.info("*** OrderItemDto List, service; fetch orderItems after cursor *");
+		final var pageRequest = PageRequest.of(0, limit);
+		final var orderItems = (after == null) 
+				? this.orderItemRepository.findFirstPage(pageRequest) 
+				: this.orderItemRepository.findPageAfter(after.getProductId(), after.getOrderId(), pageRequest);
+		return this.enrich(orderItems.stream()
+				.map(OrderItemMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<OrderItemDto> consumer) {
+		log.info("*** OrderItemDto Stream, service; stream all orderItems *");
+		final var chunk = new ArrayList<OrderItemDto>(AppConstant.BATCH_LOOKUP_CHUNK_SIZE);
+		try (final Stream<OrderItem> orderItems = this.orderItemRepository.streamAll()) {
+			orderItems.forEach(orderItem -> {
+				chunk.add(OrderItemMappingHelper.map(orderItem));
+				if (chunk.size() == AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+					this.enrich(chunk).forEach(consumer);
+					chunk.clear();
+					this.entityManager.clear();
+				}
+			});
+		}
+		if (!chunk.isEmpty())
+			this.enrich(chunk).forEach(consumer);
 	}
 	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
-				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-					return o;
-				})
+				.map(o -> this.enrich(List.of(o)).get(0))
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
+	@Override
+	public List<OrderItemDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** OrderItemDto List, service; fetch orderItems by order id *");
+		return this.enrich(this.orderItemRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toList()));
+	}
+	
 	@Override
 	public OrderItemDto save(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; save orderItem *");
@@ -82,6 +129,71 @@ public class OrderItemServiceImpl implements OrderItemService {
 		this.orderItemRepository.deleteById(orderItemId);
 	}
 	
+	private List<OrderItemDto> enrich(final List<OrderItemDto> orderItemDtos) {
+		
+		final var deadline = this.enrichmentExecutor.deadline();
+		final var productIds = orderItemDtos.stream()
+				.map(OrderItemDto::getProductId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		final var orderIds = orderItemDtos.stream()
+				.map(OrderItemDto::getOrderId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		
+		final var productLookup = this.remoteLookupMemo.resolveAsync("product-service", productIds, 
+				missingIds -> this.enrichmentExecutor.submit(() -> this.remoteDtoCache.getAll("products", missingIds, this::fetchProducts)));
+		final var orderLookup = this.remoteLookupMemo.resolveAsync("order-service", orderIds, 
+				missingIds -> this.enrichmentExecutor.submit(() -> this.remoteDtoCache.getAll("orders", missingIds, this::fetchOrders)));
+		final Map<Integer, ProductDto> productDtos = this.enrichmentExecutor
+				.await(productLookup, deadline, "product-service").orElse(Map.of());
+		final Map<Integer, OrderDto> orderDtos = this.enrichmentExecutor
+				.await(orderLookup, deadline, "order-service").orElse(Map.of());
+		
+		orderItemDtos.forEach(o -> {
+			final var missingEnrichments = new HashSet<String>();
+			if (productDtos.containsKey(o.getProductId()))
+				o.setProductDto(productDtos.get(o.getProductId()));
+			else
+				missingEnrichments.add("product");
+			if (orderDtos.containsKey(o.getOrderId()))
+				o.setOrderDto(orderDtos.get(o.getOrderId()));
+			else
+				missingEnrichments.add("order");
+			o.setMissingEnrichments(missingEnrichments.isEmpty() ? null : missingEnrichments);
+		});
+		
+		return orderItemDtos;
+	}
+	
+	private Map<Integer, ProductDto> fetchProducts(final Collection<Integer> productIds) {
+		final var productIdList = new ArrayList<>(productIds);
+		final var productDtos = new HashMap<Integer, ProductDto>(productIdList.size());
+		for (int from = 0; from < productIdList.size(); from += AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+			final var chunk = productIdList.subList(from, Math.min(from + AppConstant.BATCH_LOOKUP_CHUNK_SIZE, productIdList.size()));
+			final Map<Integer, ProductDto> fetched = this.restTemplate.exchange(AppConstant.DiscoveredDomainsApi
+					.PRODUCT_SERVICE_API_URL + "/batch", HttpMethod.POST, new HttpEntity<>(chunk), 
+					new ParameterizedTypeReference<Map<Integer, ProductDto>>() {}).getBody();
+			if (fetched != null)
+				productDtos.putAll(fetched);
+		}
+		return productDtos;
+	}
+	
+	private Map<Integer, OrderDto> fetchOrders(final Collection<Integer> orderIds) {
+		final var orderIdList = new ArrayList<>(orderIds);
+		final var orderDtos = new HashMap<Integer, OrderDto>(orderIdList.size());
+		for (int from = 0; from < orderIdList.size(); from += AppConstant.BATCH_LOOKUP_CHUNK_SIZE) {
+			final var chunk = orderIdList.subList(from, Math.min(from + AppConstant.BATCH_LOOKUP_CHUNK_SIZE, orderIdList.size()));
+			final Map<Integer, OrderDto> fetched = this.restTemplate.exchange(AppConstant.DiscoveredDomainsApi
+					.ORDER_SERVICE_API_URL + "/batch", HttpMethod.POST, new HttpEntity<>(chunk), 
+					new ParameterizedTypeReference<Map<Integer, OrderDto>>() {}).getBody();
+			if (fetched != null)
+				orderDtos.putAll(fetched);
+		}
+		return orderDtos;
+	}
+	
 	
 	
 }
@@ -0,0 +1,136 @@
+package com.selimhorri.app.service.lookup;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Memoizes remote DTO lookups for the duration of the current HTTP request. 
+ * An id is loaded at most once per request and callers asking for an id whose 
+ * load is still in flight share its pending result. Outside of a request every 
+ * call loads what it asks for.
+ */
+@Component
+@RequiredArgsConstructor
+public class RemoteLookupMemo {
+	
+	private static final String ATTRIBUTE_PREFIX = RemoteLookupMemo.class.getName() + ".";
+	
+	private final MeterRegistry meterRegistry;
+	
+	public <T> Map<Integer, T> resolve(final String dependency, final Collection<Integer> ids, 
+			final Function<Set<Integer>, Map<Integer, T>> loader) {
+		try {
+			return this.resolveAsync(dependency, ids, 
+					missingIds -> CompletableFuture.completedFuture(loader.apply(missingIds))).join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
+	
+	public <T> CompletableFuture<Map<Integer, T>> resolveAsync(final String dependency, final Collection<Integer> ids, 
+			final Function<Set<Integer>, CompletableFuture<Map<Integer, T>>> loader) {
+		
+		final Map<Integer, CompletableFuture<Optional<T>>> memo = this.memoOf(dependency);
+		final var lookups = new HashMap<Integer, CompletableFuture<Optional<T>>>(ids.size());
+		final var missing = new HashMap<Integer, CompletableFuture<Optional<T>>>();
+		
+		ids.forEach(id -> lookups.put(id, memo.computeIfAbsent(id, key -> {
+			final var lookup = new CompletableFuture<Optional<T>>();
+			missing.put(key, lookup);
+			return lookup;
+		})));
+		
+		this.meterRegistry.counter("remote.lookup.memo", "dependency", dependency, "result", "hit")
+				.increment(lookups.size() - missing.size());
+		this.meterRegistry.counter("remote.lookup.memo", "dependency", dependency, "result", "miss")
+				.increment(missing.size());
+		
+		final CompletableFuture<Map<Integer, T>> loading = missing.isEmpty() ? null : this.load(memo, missing, loader);
+		
+		final CompletableFuture<Map<Integer, T>> resolved = CompletableFuture
+				.allOf(lookups.values().toArray(CompletableFuture[]::new))
+				.thenApply(v -> {
+					final var dtos = new HashMap<Integer, T>(lookups.size());
+					lookups.forEach((id, lookup) -> lookup.join().ifPresent(dto -> dtos.put(id, dto)));
+					return dtos;
+				});
+		
+		// the caller owns the whole load, so cancelling its result must reach the remote call
+		if (loading != null && missing.size() == lookups.size())
+			resolved.whenComplete((dtos, e) -> {
+				if (resolved.isCancelled())
+					loading.cancel(true);
+			});
+		return resolved;
+	}
+	
+	private <T> CompletableFuture<Map<Integer, T>> load(final Map<Integer, CompletableFuture<Optional<T>>> memo, 
+			final Map<Integer, CompletableFuture<Optional<T>>> missing, 
+			final Function<Set<Integer>, CompletableFuture<Map<Integer, T>>> loader) {
+		
+		CompletableFuture<Map<Integer, T>> loading;
+		try {
+			loading = loader.apply(Set.copyOf(missing.keySet()));
+		}
+		catch (RuntimeException e) {
+			loading = CompletableFuture.failedFuture(e);
+		}
+		
+		loading.whenComplete((loaded, e) -> missing.forEach((id, lookup) -> {
+			if (e != null) {
+				memo.remove(id, lookup);
+				lookup.completeExceptionally(e);
+			}
+			else
+				lookup.complete(Optional.ofNullable(loaded == null ? null : loaded.get(id)));
+		}));
+		return loading;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <T> Map<Integer, CompletableFuture<Optional<T>>> memoOf(final String dependency) {
+		
+		final var requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null)
+			return new ConcurrentHashMap<>();
+		
+		final var attribute = ATTRIBUTE_PREFIX + dependency;
+		var memo = (Map<Integer, CompletableFuture<Optional<T>>>) requestAttributes
+				.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+		if (memo == null) {
+			memo = new ConcurrentHashMap<>();
+			requestAttributes.setAttribute(attribute, memo, RequestAttributes.SCOPE_REQUEST);
+		}
+		return memo;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
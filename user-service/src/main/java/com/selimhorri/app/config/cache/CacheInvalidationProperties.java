@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+@Data
+public class CacheInvalidationProperties {
+	
+	public static final String TOKEN_HEADER = "X-Cache-Invalidation-Token";
+	
+	/**
+	 * Secret shared between publishers and subscribers, sent along with every 
+	 * invalidation. Left blank, no invalidation is sent nor accepted.
+	 */
+	private String token;
+	
+	private Map<String, List<Subscriber>> subscribers = new HashMap<>();
+	
+	@Data
+	public static class Subscriber {
+		
+		private String serviceId;
+		private String path;
+		
+	}
+	
+	public List<Subscriber> subscribersOf(final String cacheName) {
+		return this.subscribers.getOrDefault(cacheName, new ArrayList<>());
+	}
+	
+	public boolean accepts(final String token) {
+		return this.token != null && !this.token.isBlank() && token != null 
+				&& MessageDigest.isEqual(this.token.getBytes(StandardCharsets.UTF_8), 
+						token.getBytes(StandardCharsets.UTF_8));
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,17 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Address;
 
 public interface AddressRepository extends JpaRepository<Address, Integer> {
 	
-	
+	@Query("SELECT a FROM Address a LEFT JOIN FETCH a.user WHERE a.addressId > :after ORDER BY a.addressId")
+	List<Address> findPageAfter(@Param("after") final Integer after, final Pageable pageable);
 	
 }
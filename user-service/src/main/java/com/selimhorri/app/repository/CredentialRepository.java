@@ -1,8 +1,12 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Credential;
 
@@ -10,4 +14,7 @@ public interface CredentialRepository extends JpaRepository<Credential, Integer>
 	
 	Optional<Credential> findByUsername(final String username);
 	
+	@Query("SELECT c FROM Credential c LEFT JOIN FETCH c.user WHERE c.credentialId > :after ORDER BY c.credentialId")
+	List<Credential> findPageAfter(@Param("after") final Integer after, final Pageable pageable);
+	
 }
@@ -1,11 +1,17 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.VerificationToken;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Integer> {
 	
-	
+	@Query("SELECT v FROM VerificationToken v LEFT JOIN FETCH v.credential WHERE v.verificationTokenId > :after ORDER BY v.verificationTokenId")
+	List<VerificationToken> findPageAfter(@Param("after") final Integer after, final Pageable pageable);
 	
 }
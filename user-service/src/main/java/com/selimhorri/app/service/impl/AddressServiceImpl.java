@@ -1,10 +1,12 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.AddressDto;
@@ -34,6 +36,15 @@ public class AddressServiceImpl implements AddressService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<AddressDto> findAll(final Integer after, final int limit) {
+		log.info("*** AddressDto List, service; fetch addresss after cursor *");
+		return this.addressRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(AddressMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public AddressDto findById(final Integer addressId) {
 		log.info("*** AddressDto, service; fetch address by id *");
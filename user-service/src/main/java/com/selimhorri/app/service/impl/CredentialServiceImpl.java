@@ -1,18 +1,22 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
-import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.CredentialMappingHelper;
 import com.selimhorri.app.repository.CredentialRepository;
 import com.selimhorri.app.service.CredentialService;
+import com.selimhorri.app.service.invalidation.CacheInvalidationEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CredentialServiceImpl implements CredentialService {
 	
 	private final CredentialRepository credentialRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<CredentialDto> findAll() {
@@ -35,6 +40,15 @@ public class CredentialServiceImpl implements CredentialService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<CredentialDto> findAll(final Integer after, final int limit) {
+		log.info("*** CredentialDto List, service; fetch credentials after cursor *");
+		return this.credentialRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(CredentialMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
@@ -46,32 +60,43 @@ public class CredentialServiceImpl implements CredentialService {
 	@Override
 	public CredentialDto save(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; save credential *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		final var saved = CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		this.evictRemote(saved.getCredentialId());
+		return saved;
 	}
 	
 	@Override
 	public CredentialDto update(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		final var updated = CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		this.evictRemote(updated.getCredentialId());
+		return updated;
 	}
 	
 	@Override
 	public CredentialDto update(final Integer credentialId, final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential with credentialId *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(
+		final var updated = CredentialMappingHelper.map(this.credentialRepository.save(
 				CredentialMappingHelper.map(this.findById(credentialId))));
+		this.evictRemote(credentialId);
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer credentialId) {
 		log.info("*** Void, service; delete credential by id *");
 		this.credentialRepository.deleteById(credentialId);
+		this.evictRemote(credentialId);
 	}
 	
 	@Override
 	public CredentialDto findByUsername(final String username) {
 		return CredentialMappingHelper.map(this.credentialRepository.findByUsername(username)
-				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
+				.orElseThrow(() -> new CredentialNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
+	}
+	
+	private void evictRemote(final Integer credentialId) {
+		this.applicationEventPublisher.publishEvent(new CacheInvalidationEvent("credentials", Set.of(credentialId)));
 	}
 	
 	
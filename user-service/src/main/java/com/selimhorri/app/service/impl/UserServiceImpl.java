@@ -1,17 +1,31 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.UserService;
+import com.selimhorri.app.service.invalidation.CacheInvalidationEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 public class UserServiceImpl implements UserService {
 	
 	private final UserRepository userRepository;
+	private final EntityManager entityManager;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<UserDto> findAll() {
@@ -34,6 +50,28 @@ public class UserServiceImpl implements UserService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<UserDto> findAll(final Integer after, final int limit) {
+		log.info("*** UserDto List, service; fetch users after cursor *");
+		return this.userRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<UserDto> consumer) {
+		log.info("*** UserDto Stream, service; stream all users *");
+		final var rows = new AtomicInteger();
+		try (final Stream<User> users = this.userRepository.streamAll()) {
+			users.forEach(user -> {
+				consumer.accept(UserMappingHelper.map(user));
+				if (rows.incrementAndGet() % AppConstant.STREAM_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			});
+		}
+	}
+	
 	@Override
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
@@ -45,26 +83,37 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public UserDto save(final UserDto userDto) {
 		log.info("*** UserDto, service; save user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		final var saved = UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		this.evictRemote(saved.getUserId());
+		// the credential is cascaded, so this may have created a username
+		if (saved.getCredentialDto() != null && saved.getCredentialDto().getCredentialId() != null)
+			this.applicationEventPublisher.publishEvent(new CacheInvalidationEvent("credentials", 
+					Set.of(saved.getCredentialDto().getCredentialId())));
+		return saved;
 	}
 	
 	@Override
 	public UserDto update(final UserDto userDto) {
 		log.info("*** UserDto, service; update user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		final var updated = UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		this.evictRemote(updated.getUserId());
+		return updated;
 	}
 	
 	@Override
 	public UserDto update(final Integer userId, final UserDto userDto) {
 		log.info("*** UserDto, service; update user with userId *");
-		return UserMappingHelper.map(this.userRepository.save(
+		final var updated = UserMappingHelper.map(this.userRepository.save(
 				UserMappingHelper.map(this.findById(userId))));
+		this.evictRemote(userId);
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer userId) {
 		log.info("*** Void, service; delete user by id *");
 		this.userRepository.deleteById(userId);
+		this.evictRemote(userId);
 	}
 	
 	@Override
@@ -74,6 +123,21 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with username: %s not found", username))));
 	}
 	
+	@Override
+	public Map<Integer, UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto Map, service; fetch users by ids *");
+		if (userIds == null || userIds.isEmpty())
+			return Map.of();
+		return this.userRepository.findAllByUserIdIn(userIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(UserDto::getUserId, Function.identity(), (u1, u2) -> u1));
+	}
+	
+	private void evictRemote(final Integer userId) {
+		this.applicationEventPublisher.publishEvent(new CacheInvalidationEvent("users", Set.of(userId)));
+	}
+	
 	
 	
 }
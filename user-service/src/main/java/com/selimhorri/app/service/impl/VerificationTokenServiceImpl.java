@@ -1,10 +1,12 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
@@ -34,6 +36,15 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<VerificationTokenDto> findAll(final Integer after, final int limit) {
+		log.info("*** VerificationTokenDto List, service; fetch verificationTokens after cursor *");
+		return this.verificationTokenRepository.findPageAfter(Objects.requireNonNullElse(after, 0), PageRequest.of(0, limit))
+				.stream()
+					.map(VerificationTokenMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public VerificationTokenDto findById(final Integer verificationTokenId) {
 		log.info("*** VerificationTokenDto, service; fetch verificationToken by ids *");
@@ -0,0 +1,23 @@
+package com.selimhorri.app.service.invalidation;
+
+import java.util.Set;
+
+import lombok.Value;
+
+@Value
+public class CacheInvalidationEvent {
+	
+	String cacheName;
+	Set<Integer> ids;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,81 @@
+package com.selimhorri.app.service.invalidation;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts committed changes to every registered instance of the services 
+ * holding a near cache of this service's DTOs. Delivery is best effort, 
+ * subscribers still expire their entries after their own TTL.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationPublisher {
+	
+	private final DiscoveryClient discoveryClient;
+	private final CacheInvalidationProperties cacheInvalidationProperties;
+	private final RestTemplate restTemplate;
+	
+	public CacheInvalidationPublisher(final DiscoveryClient discoveryClient, 
+			final CacheInvalidationProperties cacheInvalidationProperties, 
+			final RestTemplateBuilder restTemplateBuilder) {
+		this.discoveryClient = discoveryClient;
+		this.cacheInvalidationProperties = cacheInvalidationProperties;
+		this.restTemplate = restTemplateBuilder.build();
+	}
+	
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void publish(final CacheInvalidationEvent event) {
+		log.info("*** Void, publisher; broadcast invalidation of {} *", event.getCacheName());
+		final String token = this.cacheInvalidationProperties.getToken();
+		if (token == null || token.isBlank()) {
+			log.warn("*** Void, publisher; no invalidation token configured, {} not broadcast *", 
+					event.getCacheName());
+			return;
+		}
+		final var headers = new HttpHeaders();
+		headers.set(CacheInvalidationProperties.TOKEN_HEADER, token);
+		final var request = new HttpEntity<>(CacheInvalidationDto.builder()
+				.cacheName(event.getCacheName())
+				.ids(event.getIds())
+				.build(), headers);
+		this.cacheInvalidationProperties.subscribersOf(event.getCacheName()).forEach(subscriber -> 
+				this.discoveryClient.getInstances(subscriber.getServiceId()).forEach(instance -> {
+					try {
+						this.restTemplate.postForEntity(instance.getUri() + subscriber.getPath(), 
+								request, Boolean.class);
+					}
+					catch (RestClientException e) {
+						log.warn("*** Void, publisher; invalidation of {} not delivered to {}: {} *", 
+								event.getCacheName(), instance.getUri(), e.getMessage());
+					}
+				}));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
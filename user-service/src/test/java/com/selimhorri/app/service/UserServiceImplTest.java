@@ -5,7 +5,9 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.domain.RoleBasedAuthority;
@@ -22,6 +26,7 @@ import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.impl.UserServiceImpl;
+import com.selimhorri.app.service.invalidation.CacheInvalidationEvent;
 
 /**
  * Pruebas unitarias para UserServiceImpl
@@ -33,6 +38,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -174,6 +182,8 @@ class UserServiceImplTest {
         assertEquals("Ramirez", result.getLastName());
         assertEquals("natalia.ramirez@example.com", result.getEmail());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(applicationEventPublisher, times(1)).publishEvent(new CacheInvalidationEvent("users", Set.of(1)));
+        verify(applicationEventPublisher, times(1)).publishEvent(new CacheInvalidationEvent("credentials", Set.of(1)));
     }
 
     /**
@@ -228,5 +238,81 @@ class UserServiceImplTest {
 
         // Then
         verify(userRepository, times(1)).deleteById(userId);
+        verify(applicationEventPublisher, times(1)).publishEvent(new CacheInvalidationEvent("users", Set.of(userId)));
+    }
+
+    /**
+     * Prueba 8: Verificar que findAllByIds() resuelve varios usuarios en una sola consulta
+     */
+    @Test
+    void testFindAllByIds_ShouldReturnUsersKeyedById() {
+        // Given
+        User user2 = User.builder()
+                .userId(2)
+                .firstName("Carlos")
+                .lastName("Mendoza")
+                .email("carlos.mendoza@example.com")
+                .phone("3109876543")
+                .credential(testCredential)
+                .build();
+        Set<Integer> userIds = Set.of(1, 2, 999);
+        when(userRepository.findAllByUserIdIn(userIds)).thenReturn(Arrays.asList(testUser, user2));
+
+        // When
+        Map<Integer, UserDto> result = userService.findAllByIds(userIds);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("Natalia", result.get(1).getFirstName());
+        assertEquals("Carlos", result.get(2).getFirstName());
+        assertFalse(result.containsKey(999));
+        verify(userRepository, times(1)).findAllByUserIdIn(userIds);
+        verify(userRepository, never()).findById(any());
+    }
+
+    /**
+     * Prueba 9: Verificar que findAllByIds() no consulta la base de datos sin ids
+     */
+    @Test
+    void testFindAllByIds_WhenNoIds_ShouldNotQueryRepository() {
+        // When
+        Map<Integer, UserDto> result = userService.findAllByIds(Set.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    /**
+     * Prueba 10: Verificar que findAll(after, limit) busca por clave a partir del cursor
+     */
+    @Test
+    void testFindAllAfterCursor_ShouldSeekFromCursorWithLimit() {
+        // Given
+        when(userRepository.findPageAfter(1, PageRequest.of(0, 2))).thenReturn(List.of(testUser));
+
+        // When
+        List<UserDto> result = userService.findAll(1, 2);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(userRepository, times(1)).findPageAfter(1, PageRequest.of(0, 2));
+        verify(userRepository, never()).findAll();
+    }
+
+    /**
+     * Prueba 11: Verificar que findAll(after, limit) sin cursor empieza desde el inicio
+     */
+    @Test
+    void testFindAllWithoutCursor_ShouldStartFromFirstKey() {
+        // Given
+        when(userRepository.findPageAfter(0, PageRequest.of(0, 5))).thenReturn(List.of(testUser));
+
+        // When
+        List<UserDto> result = userService.findAll(null, 5);
+
+        // Then
+        assertEquals("Natalia", result.get(0).getFirstName());
+        verify(userRepository, times(1)).findPageAfter(0, PageRequest.of(0, 5));
     }
-} 
\ No newline at end of file
+}